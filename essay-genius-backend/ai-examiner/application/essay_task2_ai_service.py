@@ -4,6 +4,7 @@ import grpc
 from application.proto_message import ScoringResponse
 from application.proto_message import GenerateEssayPromptResponse
 from application.proto_message import ToxicCheckerResponse
+from application.scoring_stream_parser import ScoringStreamParser, to_essay_score
 from toxicchecker import infer
 from google import genai
 from google.genai import client, types
@@ -16,14 +17,8 @@ load_dotenv()
 
 
 class AIServiceServicer(ai_service_pb2_grpc.AIServiceServicer):
-    def Scoring(self, request, context):
-        essay_prompt = request.essay_prompt
-        essay_text = request.essay_text
-        client = genai.Client(
-            api_key=os.environ.get("GEMINI_API_KEY"),
-        )
-
-        model = os.environ.get("GEMINI_MODEL")
+    @staticmethod
+    def _scoring_contents(essay_prompt, essay_text):
         contents = [
             types.Content(
                 role="user",
@@ -301,6 +296,17 @@ Now, assemble the JSON output."""
                 ],
             ),
         ]
+        return contents
+
+    def Scoring(self, request, context):
+        essay_prompt = request.essay_prompt
+        essay_text = request.essay_text
+        client = genai.Client(
+            api_key=os.environ.get("GEMINI_API_KEY"),
+        )
+
+        model = os.environ.get("GEMINI_MODEL")
+        contents = self._scoring_contents(essay_prompt, essay_text)
         generate_content_config = types.GenerateContentConfig(
             response_mime_type="text/plain",
         )
@@ -333,6 +339,8 @@ Now, assemble the JSON output."""
             parsed_json = json.loads(json_text)
             valid = parsed_json.get("valid", False)
             result2 = parsed_json.get("result", "Invalid input")
+            if valid and isinstance(result2, dict):
+                return ScoringResponse(valid=True, score=to_essay_score(result2))
             if not isinstance(result2, str):
                 result2 = json.dumps(result2, ensure_ascii=False)
             return ScoringResponse(valid=valid, result=result2)
@@ -340,6 +348,27 @@ Now, assemble the JSON output."""
             print("❌ JSON parse error:", e)
             return ScoringResponse(valid=False, result=cleaned_result)
 
+    def ScoringStream(self, request, context):
+        client = genai.Client(
+            api_key=os.environ.get("GEMINI_API_KEY"),
+        )
+
+        chunks = client.models.generate_content_stream(
+            model=os.environ.get("GEMINI_MODEL"),
+            contents=self._scoring_contents(request.essay_prompt, request.essay_text),
+            config=types.GenerateContentConfig(
+                response_mime_type="text/plain",
+            ),
+        )
+
+        parser = ScoringStreamParser()
+        for chunk in chunks:
+            if not context.is_active():
+                return
+            if hasattr(chunk, "text") and chunk.text:
+                yield from parser.feed(str(chunk.text))
+        yield from parser.finish()
+
     def GenerateEssayPrompt(self, request, context):
         topics = request.topics
         client = genai.Client(
@@ -7,6 +7,13 @@ sym_db.RegisterFileDescriptor(ai_service_pb2.DESCRIPTOR)
 # Lấy message từ protobuf symbol database
 ScoringRequest = sym_db.GetSymbol("com.phat.grpc.ai.ScoringRequest")
 ScoringResponse = sym_db.GetSymbol("com.phat.grpc.ai.ScoringResponse")
+ScoreDetail = sym_db.GetSymbol("com.phat.grpc.ai.ScoreDetail")
+Scores = sym_db.GetSymbol("com.phat.grpc.ai.Scores")
+EssayScore = sym_db.GetSymbol("com.phat.grpc.ai.EssayScore")
+Correction = sym_db.GetSymbol("com.phat.grpc.ai.Correction")
+CriterionScore = sym_db.GetSymbol("com.phat.grpc.ai.CriterionScore")
+ScoringSummary = sym_db.GetSymbol("com.phat.grpc.ai.ScoringSummary")
+ScoringEvent = sym_db.GetSymbol("com.phat.grpc.ai.ScoringEvent")
 GenerateEssayPromptRequest = sym_db.GetSymbol(
     "com.phat.grpc.ai.GenerateEssayPromptRequest"
 )
@@ -0,0 +1,198 @@
+import json
+import re
+
+from application.proto_message import (
+    Correction,
+    CriterionScore,
+    EssayScore,
+    ScoreDetail,
+    Scores,
+    ScoringEvent,
+    ScoringSummary,
+)
+
+CRITERIA = (
+    "task_response",
+    "coherence_and_cohesion",
+    "lexical_resource",
+    "grammatical_range_and_accuracy",
+)
+
+DECODER = json.JSONDecoder()
+SEPARATOR_PATTERN = re.compile(r"[\s,]*")
+
+
+def to_score_detail(detail):
+    return ScoreDetail(
+        band=float(detail.get("band") or 0),
+        explanation=detail.get("explanation") or "",
+    )
+
+
+def to_correction(correction):
+    return Correction(
+        mistake=correction.get("mistake") or "",
+        suggestion=correction.get("suggestion") or "",
+        explanation=correction.get("explanation") or "",
+    )
+
+
+def to_essay_score(result):
+    """Maps the model's JSON result to the typed EssayScore message."""
+    scores = result.get("scores") or {}
+    return EssayScore(
+        scores=Scores(
+            **{
+                criterion: to_score_detail(scores[criterion])
+                for criterion in CRITERIA
+                if isinstance(scores.get(criterion), dict)
+            }
+        ),
+        overall_band=float(result.get("overall_band") or 0),
+        overall_feedback=result.get("overall_feedback") or "",
+        corrections=[to_correction(c) for c in result.get("corrections") or []],
+        improvement_tips=[str(tip) for tip in result.get("improvement_tips") or []],
+        rewritten_paragraph=result.get("rewritten_paragraph") or "",
+    )
+
+
+def decode_at(buffer, position):
+    """Decodes the JSON value starting at position, returning (value, end), or None while it is incomplete.
+
+    Objects and strings are complete once they decode; a bare number or literal at the very end of the buffer
+    may still be growing, so it waits for the next chunk.
+    """
+    try:
+        value, end = DECODER.raw_decode(buffer, position)
+    except json.JSONDecodeError:
+        return None
+    if end == len(buffer) and not isinstance(value, (dict, list, str)):
+        return None
+    return value, end
+
+
+class ArrayScanner:
+    """Decodes the elements of the array under a key one by one, as each one completes in the buffer.
+
+    count is the number of elements decoded so far, so the first count elements of the parsed array are exactly
+    the ones already returned.
+    """
+
+    def __init__(self, key):
+        self.start_pattern = re.compile(r"\"%s\"\s*:\s*\[" % key)
+        self.position = None
+        self.closed = False
+        self.count = 0
+
+    def scan(self, buffer):
+        if self.closed:
+            return []
+        if self.position is None:
+            start = self.start_pattern.search(buffer)
+            if not start:
+                return []
+            self.position = start.end()
+
+        elements = []
+        while True:
+            position = SEPARATOR_PATTERN.match(buffer, self.position).end()
+            if position < len(buffer) and buffer[position] == "]":
+                self.closed = True
+                return elements
+            decoded = decode_at(buffer, position)
+            if decoded is None:
+                return elements
+            element, self.position = decoded
+            self.count += 1
+            elements.append(element)
+
+
+class ScoringStreamParser:
+    """Turns the model's partial JSON answer into ScoringEvents as soon as each piece is complete.
+
+    Criteria, corrections and tips are emitted while the model is still writing; the summary (or the
+    invalid reason) is emitted by finish() once the whole answer has been received. Every piece is cut out
+    with the JSON decoder rather than a pattern, so braces, brackets and quotes inside strings are harmless.
+    """
+
+    def __init__(self):
+        self.buffer = ""
+        self.emitted_criteria = set()
+        self.corrections = ArrayScanner("corrections")
+        self.tips = ArrayScanner("improvement_tips")
+
+    def feed(self, text):
+        self.buffer += text
+        events = []
+
+        for criterion in CRITERIA:
+            if criterion in self.emitted_criteria:
+                continue
+            match = re.search(r"\"%s\"\s*:\s*" % criterion, self.buffer)
+            decoded = decode_at(self.buffer, match.end()) if match else None
+            if decoded is not None and isinstance(decoded[0], dict):
+                self.emitted_criteria.add(criterion)
+                events.append(self._criterion_event(criterion, decoded[0]))
+
+        for correction in self.corrections.scan(self.buffer):
+            if isinstance(correction, dict):
+                events.append(self._correction_event(correction))
+
+        for tip in self.tips.scan(self.buffer):
+            if tip:
+                events.append(ScoringEvent(improvement_tip=str(tip)))
+
+        return events
+
+    def finish(self):
+        cleaned = re.sub(r"^```json\s*|\s*```$", "", self.buffer.strip(), flags=re.DOTALL)
+        json_match = re.search(r"({.*})", cleaned, re.DOTALL)
+        parsed = self._loads(json_match.group(1)) if json_match else None
+        if not isinstance(parsed, dict):
+            return [ScoringEvent(invalid_reason="No JSON object found.")]
+
+        result = parsed.get("result", "Invalid input")
+        if not parsed.get("valid", False) or not isinstance(result, dict):
+            reason = result if isinstance(result, str) else json.dumps(result, ensure_ascii=False)
+            return [ScoringEvent(invalid_reason=reason)]
+
+        # anything the incremental scan missed, e.g. because of unusual formatting
+        events = []
+        scores = result.get("scores") or {}
+        for criterion in CRITERIA:
+            if criterion not in self.emitted_criteria and isinstance(scores.get(criterion), dict):
+                events.append(self._criterion_event(criterion, scores[criterion]))
+        for correction in (result.get("corrections") or [])[self.corrections.count:]:
+            if isinstance(correction, dict):
+                events.append(self._correction_event(correction))
+        for tip in (result.get("improvement_tips") or [])[self.tips.count:]:
+            if tip:
+                events.append(ScoringEvent(improvement_tip=str(tip)))
+
+        events.append(
+            ScoringEvent(
+                summary=ScoringSummary(
+                    overall_band=float(result.get("overall_band") or 0),
+                    overall_feedback=result.get("overall_feedback") or "",
+                    rewritten_paragraph=result.get("rewritten_paragraph") or "",
+                )
+            )
+        )
+        return events
+
+    @staticmethod
+    def _criterion_event(criterion, detail):
+        return ScoringEvent(
+            criterion=CriterionScore(criterion=criterion, detail=to_score_detail(detail))
+        )
+
+    @staticmethod
+    def _correction_event(correction):
+        return ScoringEvent(correction=to_correction(correction))
+
+    @staticmethod
+    def _loads(text):
+        try:
+            return json.loads(text)
+        except json.JSONDecodeError:
+            return None
@@ -25,7 +25,7 @@ _sym_db = _symbol_database.Default()
 from google.protobuf import empty_pb2 as google_dot_protobuf_dot_empty__pb2
 
 
-DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\x10\x61i-service.proto\x12\x10\x63om.phat.grpc.ai\x1a\x1bgoogle/protobuf/empty.proto\":\n\x0eScoringRequest\x12\x14\n\x0c\x65ssay_prompt\x18\x01 \x01(\t\x12\x12\n\nessay_text\x18\x02 \x01(\t\"0\n\x0fScoringResponse\x12\r\n\x05valid\x18\x01 \x01(\x08\x12\x0e\n\x06result\x18\x02 \x01(\t\",\n\x1aGenerateEssayPromptRequest\x12\x0e\n\x06topics\x18\x01 \x03(\t\"<\n\x1bGenerateEssayPromptResponse\x12\r\n\x05valid\x18\x01 \x01(\x08\x12\x0e\n\x06result\x18\x02 \x01(\t\"\'\n\x13ToxicCheckerRequest\x12\x10\n\x08sentence\x18\x01 \x01(\t\"5\n\x14ToxicCheckerResponse\x12\r\n\x05valid\x18\x01 \x01(\x08\x12\x0e\n\x06result\x18\x02 \x01(\t2\xae\x02\n\tAIService\x12N\n\x07Scoring\x12 .com.phat.grpc.ai.ScoringRequest\x1a!.com.phat.grpc.ai.ScoringResponse\x12r\n\x13GenerateEssayPrompt\x12,.com.phat.grpc.ai.GenerateEssayPromptRequest\x1a-.com.phat.grpc.ai.GenerateEssayPromptResponse\x12]\n\x0cToxicChecker\x12%.com.phat.grpc.ai.ToxicCheckerRequest\x1a&.com.phat.grpc.ai.ToxicCheckerResponseB\tB\x05protoP\x01\x62\x06proto3')
+DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\x10\x61i-service.proto\x12\x10\x63om.phat.grpc.ai\x1a\x1bgoogle/protobuf/empty.proto\":\n\x0eScoringRequest\x12\x14\n\x0c\x65ssay_prompt\x18\x01 \x01(\t\x12\x12\n\nessay_text\x18\x02 \x01(\t\"]\n\x0fScoringResponse\x12\r\n\x05valid\x18\x01 \x01(\x08\x12\x0e\n\x06result\x18\x02 \x01(\t\x12+\n\x05score\x18\x03 \x01(\x0b\x32\x1c.com.phat.grpc.ai.EssayScore\"0\n\x0bScoreDetail\x12\x0c\n\x04\x62\x61nd\x18\x01 \x01(\x01\x12\x13\n\x0b\x65xplanation\x18\x02 \x01(\t\"F\n\nCorrection\x12\x0f\n\x07mistake\x18\x01 \x01(\t\x12\x12\n\nsuggestion\x18\x02 \x01(\t\x12\x13\n\x0b\x65xplanation\x18\x03 \x01(\t\"\xfd\x01\n\x06Scores\x12\x34\n\rtask_response\x18\x01 \x01(\x0b\x32\x1d.com.phat.grpc.ai.ScoreDetail\x12=\n\x16\x63oherence_and_cohesion\x18\x02 \x01(\x0b\x32\x1d.com.phat.grpc.ai.ScoreDetail\x12\x37\n\x10lexical_resource\x18\x03 \x01(\x0b\x32\x1d.com.phat.grpc.ai.ScoreDetail\x12\x45\n\x1egrammatical_range_and_accuracy\x18\x04 \x01(\x0b\x32\x1d.com.phat.grpc.ai.ScoreDetail\"\xd0\x01\n\nEssayScore\x12(\n\x06scores\x18\x01 \x01(\x0b\x32\x18.com.phat.grpc.ai.Scores\x12\x14\n\x0coverall_band\x18\x02 \x01(\x01\x12\x18\n\x10overall_feedback\x18\x03 \x01(\t\x12\x31\n\x0b\x63orrections\x18\x04 \x03(\x0b\x32\x1c.com.phat.grpc.ai.Correction\x12\x18\n\x10improvement_tips\x18\x05 \x03(\t\x12\x1b\n\x13rewritten_paragraph\x18\x06 \x01(\t\"R\n\x0e\x43riterionScore\x12\x11\n\tcriterion\x18\x01 \x01(\t\x12-\n\x06\x64\x65tail\x18\x02 \x01(\x0b\x32\x1d.com.phat.grpc.ai.ScoreDetail\"]\n\x0eScoringSummary\x12\x14\n\x0coverall_band\x18\x01 \x01(\x01\x12\x18\n\x10overall_feedback\x18\x02 \x01(\t\x12\x1b\n\x13rewritten_paragraph\x18\x03 \x01(\t\"\xec\x01\n\x0cScoringEvent\x12\x35\n\tcriterion\x18\x01 \x01(\x0b\x32 .com.phat.grpc.ai.CriterionScoreH\x00\x12\x32\n\ncorrection\x18\x02 \x01(\x0b\x32\x1c.com.phat.grpc.ai.CorrectionH\x00\x12\x19\n\x0fimprovement_tip\x18\x03 \x01(\tH\x00\x12\x33\n\x07summary\x18\x04 \x01(\x0b\x32 .com.phat.grpc.ai.ScoringSummaryH\x00\x12\x18\n\x0einvalid_reason\x18\x05 \x01(\tH\x00\x42\x07\n\x05\x65vent\",\n\x1aGenerateEssayPromptRequest\x12\x0e\n\x06topics\x18\x01 \x03(\t\"<\n\x1bGenerateEssayPromptResponse\x12\r\n\x05valid\x18\x01 \x01(\x08\x12\x0e\n\x06result\x18\x02 \x01(\t\"\'\n\x13ToxicCheckerRequest\x12\x10\n\x08sentence\x18\x01 \x01(\t\"5\n\x14ToxicCheckerResponse\x12\r\n\x05valid\x18\x01 \x01(\x08\x12\x0e\n\x06result\x18\x02 \x01(\t2\x83\x03\n\tAIService\x12N\n\x07Scoring\x12 .com.phat.grpc.ai.ScoringRequest\x1a!.com.phat.grpc.ai.ScoringResponse\x12S\n\rScoringStream\x12 .com.phat.grpc.ai.ScoringRequest\x1a\x1e.com.phat.grpc.ai.ScoringEvent0\x01\x12r\n\x13GenerateEssayPrompt\x12,.com.phat.grpc.ai.GenerateEssayPromptRequest\x1a-.com.phat.grpc.ai.GenerateEssayPromptResponse\x12]\n\x0cToxicChecker\x12%.com.phat.grpc.ai.ToxicCheckerRequest\x1a&.com.phat.grpc.ai.ToxicCheckerResponseB\tB\x05protoP\x01\x62\x06proto3')
 
 _globals = globals()
 _builder.BuildMessageAndEnumDescriptors(DESCRIPTOR, _globals)
@@ -36,15 +36,29 @@ if not _descriptor._USE_C_DESCRIPTORS:
   _globals['_SCORINGREQUEST']._serialized_start=67
   _globals['_SCORINGREQUEST']._serialized_end=125
   _globals['_SCORINGRESPONSE']._serialized_start=127
-  _globals['_SCORINGRESPONSE']._serialized_end=175
-  _globals['_GENERATEESSAYPROMPTREQUEST']._serialized_start=177
-  _globals['_GENERATEESSAYPROMPTREQUEST']._serialized_end=221
-  _globals['_GENERATEESSAYPROMPTRESPONSE']._serialized_start=223
-  _globals['_GENERATEESSAYPROMPTRESPONSE']._serialized_end=283
-  _globals['_TOXICCHECKERREQUEST']._serialized_start=285
-  _globals['_TOXICCHECKERREQUEST']._serialized_end=324
-  _globals['_TOXICCHECKERRESPONSE']._serialized_start=326
-  _globals['_TOXICCHECKERRESPONSE']._serialized_end=379
-  _globals['_AISERVICE']._serialized_start=382
-  _globals['_AISERVICE']._serialized_end=684
+  _globals['_SCORINGRESPONSE']._serialized_end=220
+  _globals['_SCOREDETAIL']._serialized_start=222
+  _globals['_SCOREDETAIL']._serialized_end=270
+  _globals['_CORRECTION']._serialized_start=272
+  _globals['_CORRECTION']._serialized_end=342
+  _globals['_SCORES']._serialized_start=345
+  _globals['_SCORES']._serialized_end=598
+  _globals['_ESSAYSCORE']._serialized_start=601
+  _globals['_ESSAYSCORE']._serialized_end=809
+  _globals['_CRITERIONSCORE']._serialized_start=811
+  _globals['_CRITERIONSCORE']._serialized_end=893
+  _globals['_SCORINGSUMMARY']._serialized_start=895
+  _globals['_SCORINGSUMMARY']._serialized_end=988
+  _globals['_SCORINGEVENT']._serialized_start=991
+  _globals['_SCORINGEVENT']._serialized_end=1227
+  _globals['_GENERATEESSAYPROMPTREQUEST']._serialized_start=1229
+  _globals['_GENERATEESSAYPROMPTREQUEST']._serialized_end=1273
+  _globals['_GENERATEESSAYPROMPTRESPONSE']._serialized_start=1275
+  _globals['_GENERATEESSAYPROMPTRESPONSE']._serialized_end=1335
+  _globals['_TOXICCHECKERREQUEST']._serialized_start=1337
+  _globals['_TOXICCHECKERREQUEST']._serialized_end=1376
+  _globals['_TOXICCHECKERRESPONSE']._serialized_start=1378
+  _globals['_TOXICCHECKERRESPONSE']._serialized_end=1431
+  _globals['_AISERVICE']._serialized_start=1434
+  _globals['_AISERVICE']._serialized_end=1821
 # @@protoc_insertion_point(module_scope)
@@ -44,6 +44,12 @@ class AIServiceStub(object):
             response_deserializer=ai__service__pb2.ScoringResponse.FromString,
             _registered_method=True,
         )
+        self.ScoringStream = channel.unary_stream(
+            "/com.phat.grpc.ai.AIService/ScoringStream",
+            request_serializer=ai__service__pb2.ScoringRequest.SerializeToString,
+            response_deserializer=ai__service__pb2.ScoringEvent.FromString,
+            _registered_method=True,
+        )
         self.GenerateEssayPrompt = channel.unary_unary(
             "/com.phat.grpc.ai.AIService/GenerateEssayPrompt",
             request_serializer=ai__service__pb2.GenerateEssayPromptRequest.SerializeToString,
@@ -67,6 +73,12 @@ class AIServiceServicer(object):
         context.set_details("Method not implemented!")
         raise NotImplementedError("Method not implemented!")
 
+    def ScoringStream(self, request, context):
+        """Missing associated documentation comment in .proto file."""
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details("Method not implemented!")
+        raise NotImplementedError("Method not implemented!")
+
     def GenerateEssayPrompt(self, request, context):
         """Missing associated documentation comment in .proto file."""
         context.set_code(grpc.StatusCode.UNIMPLEMENTED)
@@ -87,6 +99,11 @@ def add_AIServiceServicer_to_server(servicer, server):
             request_deserializer=ai__service__pb2.ScoringRequest.FromString,
             response_serializer=ai__service__pb2.ScoringResponse.SerializeToString,
         ),
+        "ScoringStream": grpc.unary_stream_rpc_method_handler(
+            servicer.ScoringStream,
+            request_deserializer=ai__service__pb2.ScoringRequest.FromString,
+            response_serializer=ai__service__pb2.ScoringEvent.SerializeToString,
+        ),
         "GenerateEssayPrompt": grpc.unary_unary_rpc_method_handler(
             servicer.GenerateEssayPrompt,
             request_deserializer=ai__service__pb2.GenerateEssayPromptRequest.FromString,
@@ -141,6 +158,36 @@ class AIService(object):
             _registered_method=True,
         )
 
+    @staticmethod
+    def ScoringStream(
+        request,
+        target,
+        options=(),
+        channel_credentials=None,
+        call_credentials=None,
+        insecure=False,
+        compression=None,
+        wait_for_ready=None,
+        timeout=None,
+        metadata=None,
+    ):
+        return grpc.experimental.unary_stream(
+            request,
+            target,
+            "/com.phat.grpc.ai.AIService/ScoringStream",
+            ai__service__pb2.ScoringRequest.SerializeToString,
+            ai__service__pb2.ScoringEvent.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True,
+        )
+
     @staticmethod
     def GenerateEssayPrompt(
         request,
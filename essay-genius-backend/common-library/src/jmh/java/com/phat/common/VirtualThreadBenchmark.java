@@ -0,0 +1,124 @@
+package com.phat.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.phat.grpc.essay.EssayServiceGrpc;
+import com.phat.grpc.essay.IsEssayIdExistRequest;
+import com.phat.grpc.essay.IsEssayIdExistResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same burst of blocking requests on Tomcat's default pool (200 platform threads) and on one virtual thread
+ * per request, which is what {@code spring.threads.virtual.enabled} switches between. Each request makes a blocking
+ * unary gRPC call through a generated stub, as the services' handlers do towards each other, to an in-process
+ * server that answers after {@code blockingMillis}. The score is how long a burst of {@code concurrentRequests}
+ * takes to drain, so it includes what the stub and the channel cost on either kind of thread. Add
+ * {@code -prof gc} to compare allocation. Run with:
+ * <pre>
+ * mvn -B -pl common-library -Pbenchmark compile exec:exec -Djmh.args=VirtualThreadBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"200", "1000", "5000"})
+    int concurrentRequests;
+
+    @Param({"20"})
+    long blockingMillis;
+
+    private ExecutorService platformPool;
+    private ExecutorService virtualThreads;
+    private ScheduledExecutorService serverTimer;
+    private Server server;
+    private ManagedChannel channel;
+    private EssayServiceGrpc.EssayServiceBlockingStub stub;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        // The server answers from a timer, so only the calling side blocks and the two executors are compared.
+        serverTimer = Executors.newSingleThreadScheduledExecutor();
+        server = InProcessServerBuilder.forName("virtual-thread-benchmark")
+                .directExecutor()
+                .addService(new EssayServiceGrpc.EssayServiceImplBase() {
+                    @Override
+                    public void isEssayIdExist(IsEssayIdExistRequest request,
+                                               StreamObserver<IsEssayIdExistResponse> responseObserver) {
+                        serverTimer.schedule(() -> {
+                            responseObserver.onNext(IsEssayIdExistResponse.newBuilder().setIsExist(true).build());
+                            responseObserver.onCompleted();
+                        }, blockingMillis, TimeUnit.MILLISECONDS);
+                    }
+                })
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName("virtual-thread-benchmark").build();
+        stub = EssayServiceGrpc.newBlockingStub(channel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformPool.shutdownNow();
+        virtualThreads.shutdownNow();
+        channel.shutdownNow();
+        server.shutdownNow();
+        serverTimer.shutdownNow();
+    }
+
+    @Benchmark
+    public void platformThreadPool() throws InterruptedException {
+        drain(platformPool);
+    }
+
+    @Benchmark
+    public void virtualThreadPerRequest() throws InterruptedException {
+        drain(virtualThreads);
+    }
+
+    private void drain(ExecutorService executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            String essayId = String.valueOf(i);
+            executor.execute(() -> {
+                try {
+                    stub.isEssayIdExist(IsEssayIdExistRequest.newBuilder().setEssayId(essayId).build());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
@@ -14,6 +14,26 @@ public class Constants {
 
     public static final ThreadLocal<String> REST_AUTHORIZATION_CONTEXT = new ThreadLocal<>();
 
+    /** Set by the gateway after it has verified the access token; see {@code InternalPrincipalAuthenticationFilter}. */
+    public static final String INTERNAL_PRINCIPAL_HEADER = "X-Internal-Principal";
+
     public static final JWSAlgorithm ACCESS_TOKEN_SIGNATURE_ALGORITHM = HS512;
 
+    public static final String KAFKA_TOPIC_TOKEN_REVOKED = "TOKEN_REVOKED";
+
+    public static final String KAFKA_TOPIC_USER_INFO_CHANGED = "USER_INFO_CHANGED";
+
+    public static final String KAFKA_TOPIC_ESSAY_CREATED = "ESSAY_CREATED";
+
+    public static final String KAFKA_TOPIC_ESSAY_DELETED = "ESSAY_DELETED";
+
+    /**
+     * Names this instance across restarts, for the consumer groups every instance needs its own of:
+     * {@code spring.application.instance-id} if set, else the host name and HTTP port.
+     */
+    public static final String INSTANCE_ID = "${spring.application.instance-id:${HOSTNAME:localhost}-${server.port}}";
+
+    /** Ids per message on the streaming id RPCs, also used as the database cursor batch size. */
+    public static final int GRPC_ID_CHUNK_SIZE = 500;
+
 }
\ No newline at end of file
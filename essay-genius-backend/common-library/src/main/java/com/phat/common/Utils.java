@@ -1,6 +1,9 @@
 package com.phat.common;
 
 import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,12 +18,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.phat.common.Constants.GRPC_AUTHORIZATION_CONTEXT;
 
@@ -33,6 +41,63 @@ public class Utils {
                 .call(supplier::get);
     }
 
+    /**
+     * Sends {@code items} to a server-streaming call in messages of at most {@code chunkSize} items. On a server call the
+     * cursor is read only while the transport is ready for more, from the call's on-ready callbacks, so a slow
+     * client holds back the reads instead of queueing the whole result in memory. This takes ownership of
+     * {@code items}: it is closed once sent, on failure, or as soon as the client cancels.
+     */
+    public static <E, T> void sendInChunks(Stream<E> items, int chunkSize,
+                                           Function<List<E>, T> toMessage, StreamObserver<T> responseObserver) {
+        Iterator<E> iterator = items.iterator();
+        if (!(responseObserver instanceof ServerCallStreamObserver<T> serverObserver)) {
+            try (items) {
+                List<E> chunk;
+                while (!(chunk = nextChunk(iterator, chunkSize)).isEmpty()) {
+                    responseObserver.onNext(toMessage.apply(chunk));
+                }
+            }
+            responseObserver.onCompleted();
+            return;
+        }
+
+        // Both callbacks run on the call's serializing executor, never at the same time.
+        AtomicBoolean finished = new AtomicBoolean();
+        serverObserver.setOnCancelHandler(() -> {
+            if (finished.compareAndSet(false, true)) {
+                items.close();
+            }
+        });
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                while (!finished.get() && serverObserver.isReady()) {
+                    List<E> chunk = nextChunk(iterator, chunkSize);
+                    if (chunk.isEmpty()) {
+                        if (finished.compareAndSet(false, true)) {
+                            items.close();
+                            serverObserver.onCompleted();
+                        }
+                        return;
+                    }
+                    serverObserver.onNext(toMessage.apply(chunk));
+                }
+            } catch (RuntimeException e) {
+                if (finished.compareAndSet(false, true)) {
+                    items.close();
+                    serverObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+                }
+            }
+        });
+    }
+
+    private static <E> List<E> nextChunk(Iterator<E> iterator, int chunkSize) {
+        List<E> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && iterator.hasNext()) {
+            chunk.add(iterator.next());
+        }
+        return chunk;
+    }
+
     public static void handleRawFile(String filePath) throws IOException {
         String[] fileNameParts = filePath.split("/");
 
@@ -0,0 +1,161 @@
+package com.phat.common.components;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client-side concurrency limit that adapts to the latency of the downstream service, in the spirit of
+ * Netflix's gradient limiter: the limit grows while the short-term RTT stays close to the long-term
+ * baseline, shrinks in proportion as the RTT rises above it, and is cut multiplicatively when calls are
+ * dropped (timeouts, overload). Calls beyond the current limit are rejected immediately.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    /** How far the short-term RTT may exceed the baseline before the limit starts shrinking. */
+    private final double rttTolerance;
+
+    /** Weight of each new sample in the limit, between 0 and 1. */
+    private final double smoothing;
+
+    private final double backoffRatio;
+
+    private final ExponentialAverage shortRtt = new ExponentialAverage(10);
+
+    private final ExponentialAverage longRtt = new ExponentialAverage(600);
+
+    @Getter
+    private volatile double limit;
+
+    @Builder
+    private AdaptiveConcurrencyLimiter(Integer initialLimit,
+                                       Integer minLimit,
+                                       Integer maxLimit,
+                                       Double rttTolerance,
+                                       Double smoothing,
+                                       Double backoffRatio) {
+        this.minLimit = minLimit != null ? minLimit : 1;
+        this.maxLimit = maxLimit != null ? maxLimit : 200;
+        this.rttTolerance = rttTolerance != null ? rttTolerance : 1.5;
+        this.smoothing = smoothing != null ? smoothing : 0.2;
+        this.backoffRatio = backoffRatio != null ? backoffRatio : 0.9;
+        this.limit = initialLimit != null ? initialLimit : 20;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Reserves a slot, or returns empty when the limit is reached. The returned listener must be
+     * completed exactly once.
+     */
+    public Optional<Listener> tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Listener(current + 1, System.nanoTime()));
+            }
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        double shortAverage = shortRtt.add(rttNanos);
+        double longAverage = longRtt.add(rttNanos);
+
+        // the baseline follows improvements right away so a recovered backend is not held back
+        if (longAverage > shortAverage) {
+            longRtt.reset(shortAverage);
+            longAverage = shortAverage;
+        }
+
+        // only grow while the limit is actually being used
+        if (inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longAverage / shortAverage));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        setLimit(limit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private synchronized void onDrop() {
+        setLimit(limit * backoffRatio);
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public class Listener {
+        private final int inflightAtStart;
+        private final long startNanos;
+        private boolean completed;
+
+        private Listener(int inflightAtStart, long startNanos) {
+            this.inflightAtStart = inflightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /** The call completed normally; its latency is a valid sample. */
+        public void onSuccess() {
+            if (release()) {
+                onSample(System.nanoTime() - startNanos, inflightAtStart);
+            }
+        }
+
+        /** The call timed out or was rejected for overload. */
+        public void onDropped() {
+            if (release()) {
+                onDrop();
+            }
+        }
+
+        /** The call failed for a reason unrelated to load; its latency is meaningless. */
+        public void onIgnore() {
+            release();
+        }
+
+        private synchronized boolean release() {
+            if (completed) {
+                return false;
+            }
+            completed = true;
+            inflight.decrementAndGet();
+            return true;
+        }
+    }
+
+    private static final class ExponentialAverage {
+        private final double factor;
+        private double value;
+        private boolean initialized;
+
+        private ExponentialAverage(int window) {
+            this.factor = 2.0 / (window + 1);
+        }
+
+        private double add(double sample) {
+            value = initialized ? value * (1 - factor) + sample * factor : sample;
+            initialized = true;
+            return value;
+        }
+
+        private void reset(double sample) {
+            value = sample;
+            initialized = true;
+        }
+    }
+}
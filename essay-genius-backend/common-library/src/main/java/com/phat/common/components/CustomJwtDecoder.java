@@ -1,6 +1,7 @@
 package com.phat.common.components;
 
 import com.phat.common.Constants;
+import com.phat.common.configs.TokenRevocationProperties;
 import com.phat.common.exception.AppErrorCode;
 import com.phat.common.exception.AppException;
 import com.phat.common.service.IdentityServiceGrpcClient;
@@ -31,8 +32,26 @@ public class CustomJwtDecoder implements JwtDecoder {
 
     private final IdentityServiceGrpcClient identityServiceGrpcClient;
 
+    private final IntrospectionCache introspectionCache;
+
+    private final RevokedTokenStore revokedTokenStore;
+
+    private final TokenRevocationProperties tokenRevocationProperties;
+
     @Override
     public Jwt decode(String token) {
+        // Signature and expiry are checked locally first, so only the revocation check needs identity-service.
+        Jwt jwt = getNimbusJwtDecoder().decode(token);
+        if (revokedTokenStore.isRevoked(jwt.getId())) {
+            throw new JwtException("Token revoked");
+        }
+        if (tokenRevocationProperties.isEnabled() && tokenRevocationProperties.isLocalValidation()) {
+            return jwt;
+        }
+        if (introspectionCache.isValid(jwt.getId())) {
+            return jwt;
+        }
+
         try {
             if (!identityServiceGrpcClient.introspect(token).getValid())
                 throw new AppException(AppErrorCode.INTROSPECT_FAILED, UNAUTHORIZED, "Introspection failed");
@@ -41,6 +60,11 @@ public class CustomJwtDecoder implements JwtDecoder {
             throw new JwtException(e.getMessage());
         }
 
+        introspectionCache.putValid(jwt.getId(), jwt.getExpiresAt());
+        return jwt;
+    }
+
+    private NimbusJwtDecoder getNimbusJwtDecoder() {
         if (Objects.isNull(nimbusJwtDecoder)) {
             SecretKeySpec secretKeySpec = new SecretKeySpec(
                     ACCESS_SIGNER_KEY.getBytes(),
@@ -50,7 +74,7 @@ public class CustomJwtDecoder implements JwtDecoder {
                     .macAlgorithm(MacAlgorithm.from(Constants.ACCESS_TOKEN_SIGNATURE_ALGORITHM.getName()))
                     .build();
         }
-        return nimbusJwtDecoder.decode(token);
+        return nimbusJwtDecoder;
     }
 
 }
@@ -0,0 +1,149 @@
+package com.phat.common.components;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.CacheRefreshedEvent;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.EurekaEventListener;
+import com.netflix.discovery.shared.Application;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static net.devh.boot.grpc.common.util.GrpcUtils.CLOUD_DISCOVERY_METADATA_PORT;
+
+/**
+ * Looks up one Eureka application and resolves again whenever the local registry cache is refreshed, publishing
+ * to the channel only when the set of addresses changed. Lookups run on the channel's offload executor because
+ * the addresses are resolved through DNS.
+ */
+@Slf4j
+class EurekaNameResolver extends NameResolver {
+
+    private final String application;
+    private final InetSocketAddress fallbackAddress;
+    private final ObjectProvider<EurekaClient> eurekaClientProvider;
+    private final SynchronizationContext syncContext;
+    private final Executor executor;
+    private final EurekaEventListener registryListener;
+
+    // Only touched inside syncContext.
+    private Listener2 listener;
+    private EurekaClient eurekaClient;
+    private List<EquivalentAddressGroup> addresses = List.of();
+    private boolean resolving;
+    private boolean shutdown;
+
+    EurekaNameResolver(String application,
+                       InetSocketAddress fallbackAddress,
+                       ObjectProvider<EurekaClient> eurekaClientProvider,
+                       Args args) {
+        this.application = application;
+        this.fallbackAddress = fallbackAddress;
+        this.eurekaClientProvider = eurekaClientProvider;
+        this.syncContext = args.getSynchronizationContext();
+        this.executor = args.getOffloadExecutor() != null ? args.getOffloadExecutor() : Runnable::run;
+        this.registryListener = event -> {
+            if (event instanceof CacheRefreshedEvent) {
+                syncContext.execute(this::resolve);
+            }
+        };
+    }
+
+    @Override
+    public String getServiceAuthority() {
+        return application;
+    }
+
+    @Override
+    public void start(Listener2 listener) {
+        this.listener = listener;
+        this.eurekaClient = eurekaClientProvider.getIfAvailable();
+        if (eurekaClient != null) {
+            eurekaClient.registerEventListener(registryListener);
+        }
+        resolve();
+    }
+
+    @Override
+    public void refresh() {
+        resolve();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (eurekaClient != null) {
+            eurekaClient.unregisterEventListener(registryListener);
+        }
+    }
+
+    private void resolve() {
+        if (resolving || shutdown) {
+            return;
+        }
+        resolving = true;
+        EurekaClient client = eurekaClient;
+        executor.execute(() -> {
+            List<EquivalentAddressGroup> resolved;
+            Status error = null;
+            try {
+                resolved = lookup(client);
+            } catch (Exception e) {
+                resolved = List.of();
+                error = Status.UNAVAILABLE.withDescription("Cannot resolve " + application).withCause(e);
+            }
+            List<EquivalentAddressGroup> result = resolved;
+            Status failure = error;
+            syncContext.execute(() -> publish(result, failure));
+        });
+    }
+
+    private void publish(List<EquivalentAddressGroup> resolved, Status error) {
+        resolving = false;
+        if (shutdown) {
+            return;
+        }
+        if (resolved.isEmpty()) {
+            listener.onError(error != null ? error
+                    : Status.UNAVAILABLE.withDescription("No UP instance of " + application + " in Eureka"));
+            return;
+        }
+        if (!resolved.equals(addresses)) {
+            log.info("[{}]: {} resolved to {}", "COMMON-SERVICE", application, resolved);
+            addresses = resolved;
+            listener.onResult(ResolutionResult.newBuilder().setAddresses(resolved).build());
+        }
+    }
+
+    private List<EquivalentAddressGroup> lookup(EurekaClient client) throws UnknownHostException {
+        List<EquivalentAddressGroup> resolved = new ArrayList<>();
+        Application registered = client != null ? client.getApplication(application) : null;
+        if (registered != null) {
+            for (InstanceInfo instance : registered.getInstances()) {
+                String grpcPort = instance.getMetadata().get(CLOUD_DISCOVERY_METADATA_PORT);
+                if (instance.getStatus() == InstanceInfo.InstanceStatus.UP && grpcPort != null) {
+                    resolved.add(new EquivalentAddressGroup(
+                            new InetSocketAddress(instance.getHostName(), Integer.parseInt(grpcPort))));
+                }
+            }
+        }
+        if (resolved.isEmpty() && fallbackAddress != null) {
+            for (InetAddress address : InetAddress.getAllByName(fallbackAddress.getHostString())) {
+                resolved.add(new EquivalentAddressGroup(new InetSocketAddress(address, fallbackAddress.getPort())));
+            }
+        }
+        resolved.sort(Comparator.comparing(EquivalentAddressGroup::toString));
+        return List.copyOf(resolved);
+    }
+}
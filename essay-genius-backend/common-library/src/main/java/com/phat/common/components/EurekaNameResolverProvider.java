@@ -0,0 +1,81 @@
+package com.phat.common.components;
+
+import com.netflix.discovery.EurekaClient;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resolves {@code eureka:///<application>[?fallback=host:port]} channel targets to every UP instance of the
+ * application in the Eureka registry, using the {@code gRPC_port} each instance publishes in its metadata. The
+ * fallback address is used while the registry has no instance, so the same target works where no discovery server
+ * runs. Picked up by the gRPC client starter because it is a bean.
+ */
+public class EurekaNameResolverProvider extends NameResolverProvider {
+
+    public static final String SCHEME = "eureka";
+
+    private final ObjectProvider<EurekaClient> eurekaClient;
+
+    public EurekaNameResolverProvider(ObjectProvider<EurekaClient> eurekaClient) {
+        this.eurekaClient = eurekaClient;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String path = targetUri.getPath();
+        if (path == null || path.length() <= 1) {
+            throw new IllegalArgumentException("Expected eureka:///<application>, got " + targetUri);
+        }
+        return new EurekaNameResolver(path.substring(1), fallbackAddress(targetUri), eurekaClient, args);
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    /** Below the DNS resolver, so targets without a scheme keep resolving through DNS. */
+    @Override
+    protected int priority() {
+        return 4;
+    }
+
+    @Override
+    public Collection<Class<? extends SocketAddress>> getProducedSocketAddressTypes() {
+        return List.of(InetSocketAddress.class);
+    }
+
+    private static InetSocketAddress fallbackAddress(URI targetUri) {
+        String query = targetUri.getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("fallback=")) {
+                String address = parameter.substring("fallback=".length());
+                int separator = address.lastIndexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Expected fallback=host:port, got " + targetUri);
+                }
+                return InetSocketAddress.createUnresolved(
+                        address.substring(0, separator), Integer.parseInt(address.substring(separator + 1)));
+            }
+        }
+        return null;
+    }
+}
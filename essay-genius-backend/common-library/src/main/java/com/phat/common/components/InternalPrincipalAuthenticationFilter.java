@@ -0,0 +1,117 @@
+package com.phat.common.components;
+
+import com.phat.common.configs.InternalPrincipalProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+import static com.phat.common.Constants.INTERNAL_PRINCIPAL_HEADER;
+
+/**
+ * Authenticates requests the gateway has already verified. The gateway checks the access token's signature,
+ * expiry and revocation once and forwards {@code base64url(subject|jti|expiresAtMillis).base64url(HMAC-SHA256)}
+ * in {@value com.phat.common.Constants#INTERNAL_PRINCIPAL_HEADER}; a valid, unexpired header becomes the
+ * authentication and the bearer token is not decoded again. Anything else falls through to the bearer token.
+ */
+@Slf4j
+public class InternalPrincipalAuthenticationFilter extends OncePerRequestFilter {
+
+    /** Request attribute telling the bearer token resolver that the request is already authenticated. */
+    public static final String AUTHENTICATED_ATTRIBUTE = InternalPrincipalAuthenticationFilter.class.getName() + ".AUTHENTICATED";
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec signerKey;
+    private final JwtAuthenticationConverter jwtAuthenticationConverter;
+
+    public InternalPrincipalAuthenticationFilter(InternalPrincipalProperties properties,
+                                                 JwtAuthenticationConverter jwtAuthenticationConverter) {
+        this.signerKey = new SecretKeySpec(properties.getSignerKey().getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.jwtAuthenticationConverter = jwtAuthenticationConverter;
+    }
+
+    /** The default bearer token resolver, except that requests this filter authenticated yield no token. */
+    public static BearerTokenResolver bearerTokenResolver() {
+        DefaultBearerTokenResolver defaultBearerTokenResolver = new DefaultBearerTokenResolver();
+        return request -> request.getAttribute(AUTHENTICATED_ATTRIBUTE) != null
+                ? null
+                : defaultBearerTokenResolver.resolve(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(INTERNAL_PRINCIPAL_HEADER);
+        Jwt jwt = header != null ? toJwt(header, request.getHeader(HttpHeaders.AUTHORIZATION)) : null;
+        if (jwt != null) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(jwtAuthenticationConverter.convert(jwt));
+            SecurityContextHolder.setContext(context);
+            request.setAttribute(AUTHENTICATED_ATTRIBUTE, Boolean.TRUE);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Jwt toJwt(String header, String authorization) {
+        int separator = header.lastIndexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        String payload = header.substring(0, separator);
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(header.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, mac(payload))) {
+                log.warn("[{}]: Ignoring internal principal with a bad signature", "COMMON-SERVICE");
+                return null;
+            }
+            String[] parts = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3) {
+                return null;
+            }
+            Instant expiresAt = Instant.ofEpochMilli(Long.parseLong(parts[2]));
+            if (!expiresAt.isAfter(Instant.now())) {
+                return null;
+            }
+            String tokenValue = authorization != null && authorization.startsWith("Bearer ")
+                    ? authorization.substring("Bearer ".length())
+                    : header;
+            return Jwt.withTokenValue(tokenValue)
+                    .header("alg", MAC_ALGORITHM)
+                    .subject(parts[0])
+                    .jti(parts[1])
+                    .expiresAt(expiresAt)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signerKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot verify internal principal", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.phat.common.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.phat.common.configs.IntrospectionCacheProperties;
+import com.phat.common.event.TokenRevokedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remembers tokens that identity-service confirmed as valid, keyed by jti.
+ * An entry lives at most {@code jwt.introspection-cache.ttl} and never past the token's own expiry,
+ * so a revoked token is accepted for no longer than the TTL even if its revocation event is missed.
+ */
+@Slf4j
+@Component
+public class IntrospectionCache {
+
+    private final boolean enabled;
+    private final Cache<String, Instant> validTokens;
+
+    public IntrospectionCache(IntrospectionCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        Duration ttl = properties.getTtl();
+        this.validTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<String, Instant>() {
+                    @Override
+                    public long expireAfterCreate(String jti, Instant expiresAt, long currentTime) {
+                        Duration untilExpiry = Duration.between(Instant.now(), expiresAt);
+                        return Math.max(0, Math.min(ttl.toNanos(), untilExpiry.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String jti, Instant expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(jti, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String jti, Instant expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public boolean isValid(String jti) {
+        if (!enabled || jti == null) {
+            return false;
+        }
+        Instant expiresAt = validTokens.getIfPresent(jti);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    public void putValid(String jti, Instant expiresAt) {
+        if (!enabled || jti == null || expiresAt == null) {
+            return;
+        }
+        validTokens.put(jti, expiresAt);
+    }
+
+    public void evict(String jti) {
+        validTokens.invalidate(jti);
+    }
+
+    @EventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        log.debug("[{}]: Evicting revoked token {}", "COMMON-SERVICE", event.jti());
+        evict(event.jti());
+    }
+}
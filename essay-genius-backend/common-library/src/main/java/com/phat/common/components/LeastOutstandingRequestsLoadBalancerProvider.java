@@ -0,0 +1,242 @@
+package com.phat.common.components;
+
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.Metadata;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code least_outstanding_requests} policy: of two READY backends chosen at random, each call goes to the one with
+ * fewer calls in flight from this channel. Unlike {@code round_robin} it steers work away from an instance that has
+ * become slow without needing any load reports from it. Registered through {@code META-INF/services} and selected
+ * with {@code grpc.client.<name>.defaultLoadBalancingPolicy}.
+ */
+public class LeastOutstandingRequestsLoadBalancerProvider extends LoadBalancerProvider {
+
+    public static final String POLICY_NAME = "least_outstanding_requests";
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return POLICY_NAME;
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new LeastOutstandingRequestsLoadBalancer(helper);
+    }
+
+    @Override
+    public NameResolver.ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+        return NameResolver.ConfigOrError.fromConfig(POLICY_NAME);
+    }
+
+    /**
+     * Keeps one subchannel per resolved address, reconnects the ones that go idle, and reports READY as long as one
+     * backend is. A backend in TRANSIENT_FAILURE stays there until it is READY again, so a flapping connection does
+     * not pull the channel back to CONNECTING. Built on the public {@link LoadBalancer} API only; all callbacks run in
+     * the channel's synchronization context.
+     */
+    static class LeastOutstandingRequestsLoadBalancer extends LoadBalancer {
+
+        private final Helper helper;
+        private final Map<EquivalentAddressGroup, Backend> backends = new HashMap<>();
+
+        LeastOutstandingRequestsLoadBalancer(Helper helper) {
+            this.helper = helper;
+        }
+
+        @Override
+        public Status acceptResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+            List<EquivalentAddressGroup> servers = resolvedAddresses.getAddresses();
+            if (servers.isEmpty()) {
+                Status unavailable = Status.UNAVAILABLE.withDescription(
+                        "Name resolver returned no addresses, attributes: " + resolvedAddresses.getAttributes());
+                handleNameResolutionError(unavailable);
+                return unavailable;
+            }
+
+            Set<EquivalentAddressGroup> current = new HashSet<>();
+            for (EquivalentAddressGroup server : servers) {
+                // Attributes may change between resolutions; the addresses identify the backend.
+                EquivalentAddressGroup key = new EquivalentAddressGroup(server.getAddresses());
+                current.add(key);
+                Backend existing = backends.get(key);
+                if (existing != null) {
+                    existing.subchannel().updateAddresses(List.of(server));
+                    continue;
+                }
+                Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                        .setAddresses(server)
+                        .build());
+                Backend backend = new Backend(subchannel, new AtomicInteger());
+                backends.put(key, backend);
+                subchannel.start(stateInfo -> onSubchannelState(key, backend, stateInfo));
+                subchannel.requestConnection();
+            }
+
+            Iterator<Map.Entry<EquivalentAddressGroup, Backend>> iterator = backends.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<EquivalentAddressGroup, Backend> entry = iterator.next();
+                if (!current.contains(entry.getKey())) {
+                    entry.getValue().subchannel().shutdown();
+                    iterator.remove();
+                }
+            }
+            updateBalancingState();
+            return Status.OK;
+        }
+
+        @Override
+        public void handleNameResolutionError(Status error) {
+            if (backends.values().stream().noneMatch(backend -> backend.state() == ConnectivityState.READY)) {
+                helper.updateBalancingState(ConnectivityState.TRANSIENT_FAILURE,
+                        new FixedResultPicker(PickResult.withError(error)));
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            backends.values().forEach(backend -> backend.subchannel().shutdown());
+            backends.clear();
+        }
+
+        private void onSubchannelState(EquivalentAddressGroup key, Backend backend, ConnectivityStateInfo stateInfo) {
+            if (backends.get(key) != backend || stateInfo.getState() == ConnectivityState.SHUTDOWN) {
+                return;
+            }
+            if (stateInfo.getState() == ConnectivityState.IDLE) {
+                backend.subchannel().requestConnection();
+            }
+            if (backend.stateInfo.getState() == ConnectivityState.TRANSIENT_FAILURE
+                    && stateInfo.getState() != ConnectivityState.READY
+                    && stateInfo.getState() != ConnectivityState.TRANSIENT_FAILURE) {
+                return;
+            }
+            backend.stateInfo = stateInfo;
+            updateBalancingState();
+        }
+
+        private void updateBalancingState() {
+            List<Backend> ready = backends.values().stream()
+                    .filter(backend -> backend.state() == ConnectivityState.READY)
+                    .toList();
+            if (!ready.isEmpty()) {
+                helper.updateBalancingState(ConnectivityState.READY, new Picker(ready));
+                return;
+            }
+            Status failure = null;
+            for (Backend backend : backends.values()) {
+                if (backend.state() != ConnectivityState.TRANSIENT_FAILURE) {
+                    helper.updateBalancingState(ConnectivityState.CONNECTING,
+                            new FixedResultPicker(PickResult.withNoResult()));
+                    return;
+                }
+                failure = backend.stateInfo.getStatus();
+            }
+            helper.updateBalancingState(ConnectivityState.TRANSIENT_FAILURE,
+                    new FixedResultPicker(PickResult.withError(failure != null ? failure : Status.UNAVAILABLE)));
+        }
+    }
+
+    /** A backend's subchannel, its last reported state and the calls this channel has in flight on it. */
+    static final class Backend {
+
+        private final LoadBalancer.Subchannel subchannel;
+        private final AtomicInteger outstanding;
+        private ConnectivityStateInfo stateInfo = ConnectivityStateInfo.forNonError(ConnectivityState.CONNECTING);
+
+        Backend(LoadBalancer.Subchannel subchannel, AtomicInteger outstanding) {
+            this.subchannel = subchannel;
+            this.outstanding = outstanding;
+        }
+
+        LoadBalancer.Subchannel subchannel() {
+            return subchannel;
+        }
+
+        AtomicInteger outstanding() {
+            return outstanding;
+        }
+
+        ConnectivityState state() {
+            return stateInfo.getState();
+        }
+    }
+
+    static class Picker extends LoadBalancer.SubchannelPicker {
+
+        private final List<Backend> backends;
+
+        Picker(List<Backend> backends) {
+            this.backends = backends;
+        }
+
+        @Override
+        public LoadBalancer.PickResult pickSubchannel(LoadBalancer.PickSubchannelArgs args) {
+            Backend backend = choose();
+            return LoadBalancer.PickResult.withSubchannel(backend.subchannel(),
+                    new OutstandingRequestTracerFactory(backend.outstanding()));
+        }
+
+        private Backend choose() {
+            int size = backends.size();
+            if (size == 1) {
+                return backends.get(0);
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            Backend a = backends.get(first);
+            Backend b = backends.get(second);
+            return a.outstanding().get() <= b.outstanding().get() ? a : b;
+        }
+    }
+
+    /** Counts a call from the moment its stream starts until it closes, whatever the outcome. */
+    private static class OutstandingRequestTracerFactory extends ClientStreamTracer.Factory {
+
+        private final AtomicInteger outstanding;
+
+        private OutstandingRequestTracerFactory(AtomicInteger outstanding) {
+            this.outstanding = outstanding;
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            outstanding.incrementAndGet();
+            return new ClientStreamTracer() {
+                @Override
+                public void streamClosed(Status status) {
+                    outstanding.decrementAndGet();
+                }
+            };
+        }
+    }
+}
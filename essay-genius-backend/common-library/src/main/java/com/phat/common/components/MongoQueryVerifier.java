@@ -0,0 +1,59 @@
+package com.phat.common.components;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Checks with {@code explain()} that a query is served by an index. The query is mapped the way
+ * {@link MongoTemplate#find} maps it, so pass the {@link Query} the service actually runs: property names become
+ * field names, and enums and ids get converted.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MongoQueryVerifier {
+
+    private final MongoTemplate mongoTemplate;
+
+    public void verify(String name, Query query, Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        try {
+            MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                    .getPersistentEntity(entityClass);
+            QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+            Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+            Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+            Document explain = mongoTemplate.getCollection(collection)
+                    .find(filter)
+                    .sort(sort)
+                    .skip((int) query.getSkip())
+                    .limit(query.getLimit())
+                    .explain();
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            if (containsStage(winningPlan, "COLLSCAN")) {
+                log.warn("[{}]: Query '{}' on {} is not index-covered: {}", "COMMON-SERVICE", name, collection, winningPlan.toJson());
+            } else {
+                log.info("[{}]: Query '{}' on {} uses an index", "COMMON-SERVICE", name, collection);
+            }
+        } catch (Exception e) {
+            log.warn("[{}]: Could not explain query '{}' on {}: {}", "COMMON-SERVICE", name, collection, e.getMessage());
+        }
+    }
+
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            return stage.equals(document.get("stage"))
+                    || document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
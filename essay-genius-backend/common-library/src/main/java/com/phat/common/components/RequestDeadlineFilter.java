@@ -0,0 +1,80 @@
+package com.phat.common.components;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each REST request inside a gRPC {@link Context} with a deadline, so every blocking stub called on the request
+ * thread inherits it and forwards the remaining time to the next service, which does the same for its own calls.
+ * The budget is the configured REST timeout, shortened by the caller's {@code timeoutHeader} when present. The
+ * context is cancelled when the request completes, which also cancels calls still running on its behalf.
+ */
+@Slf4j
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration restTimeout;
+    private final String timeoutHeader;
+    private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "grpc-request-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RequestDeadlineFilter(Duration restTimeout, String timeoutHeader) {
+        this.restTimeout = restTimeout;
+        this.timeoutHeader = timeoutHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long budgetMillis = budgetMillis(request);
+        if (budgetMillis <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Context.CancellableContext context = Context.current()
+                .withDeadline(Deadline.after(budgetMillis, TimeUnit.MILLISECONDS), deadlineScheduler);
+        Context previous = context.attach();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            context.detach(previous);
+            context.cancel(null);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        deadlineScheduler.shutdownNow();
+    }
+
+    private long budgetMillis(HttpServletRequest request) {
+        long budget = restTimeout != null ? restTimeout.toMillis() : 0;
+        String header = request.getHeader(timeoutHeader);
+        if (header != null) {
+            try {
+                long callerBudget = Long.parseLong(header.trim());
+                if (callerBudget > 0 && (budget <= 0 || callerBudget < budget)) {
+                    budget = callerBudget;
+                }
+            } catch (NumberFormatException e) {
+                log.debug("[{}]: Ignoring malformed {} header: {}", "COMMON-SERVICE", timeoutHeader, header);
+            }
+        }
+        return budget;
+    }
+}
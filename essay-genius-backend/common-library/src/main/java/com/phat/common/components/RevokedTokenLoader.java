@@ -0,0 +1,59 @@
+package com.phat.common.components;
+
+import com.phat.common.configs.TokenRevocationProperties;
+import com.phat.common.service.IdentityServiceGrpcClient;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the revoked-jti set with the revocations that happened before this instance subscribed to the topic. It runs
+ * once all singletons exist, before the web and gRPC servers start, so no request is served against an empty set.
+ * With local validation nothing else checks revocations, so a failed load stops the startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Conditional(RevokedTokenLoader.OnRebuildOnStartup.class)
+public class RevokedTokenLoader implements SmartInitializingSingleton {
+
+    IdentityServiceGrpcClient identityServiceGrpcClient;
+    RevokedTokenStore revokedTokenStore;
+    TokenRevocationProperties tokenRevocationProperties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            revokedTokenStore.revokeAll(identityServiceGrpcClient.getRevokedTokens());
+            log.info("[{}]: Loaded {} revoked tokens", "COMMON-SERVICE", revokedTokenStore.size());
+        } catch (Exception e) {
+            if (tokenRevocationProperties.isLocalValidation()) {
+                throw new IllegalStateException("Could not load revoked tokens, refusing to validate tokens locally", e);
+            }
+            log.warn("[{}]: Could not load revoked tokens, relying on the revocation topic only: {}", "COMMON-SERVICE", e.getMessage());
+        }
+    }
+
+    /** {@code jwt.revocation.enabled} is off unless set, {@code rebuild-on-startup} is on unless set. */
+    static class OnRebuildOnStartup extends AllNestedConditions {
+
+        OnRebuildOnStartup() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+        static class Enabled {
+        }
+
+        @ConditionalOnProperty(prefix = "jwt.revocation", name = "rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+        static class RebuildOnStartup {
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.phat.common.components;
+
+import com.phat.common.event.TokenRevokedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory set of revoked jtis ordered by expiry. An entry is only needed until the token
+ * expires on its own, so expired entries are dropped from the head of the set as time goes by.
+ */
+@Component
+public class RevokedTokenStore {
+
+    private record Entry(Instant expiresAt, String jti) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byExpiry = expiresAt.compareTo(other.expiresAt);
+            return byExpiry != 0 ? byExpiry : jti.compareTo(other.jti);
+        }
+    }
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> byExpiry = new ConcurrentSkipListSet<>();
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        if (revoked.putIfAbsent(jti, expiresAt) == null) {
+            byExpiry.add(new Entry(expiresAt, jti));
+        }
+        purgeExpired();
+    }
+
+    public void revokeAll(Map<String, Instant> tokens) {
+        tokens.forEach(this::revoke);
+    }
+
+    public boolean isRevoked(String jti) {
+        purgeExpired();
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @EventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        revoke(event.jti(), event.expiryTime().toInstant());
+    }
+
+    private void purgeExpired() {
+        Instant now = Instant.now();
+        Iterator<Entry> iterator = byExpiry.iterator();
+        while (iterator.hasNext()) {
+            Entry head = iterator.next();
+            if (head.expiresAt().isAfter(now)) {
+                return;
+            }
+            iterator.remove();
+            revoked.remove(head.jti(), head.expiresAt());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.phat.common.components;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * De-duplicates concurrent identical calls: while a call for a key is outstanding, further callers with
+ * the same key wait for it and share its result (or exception) instead of issuing their own. Nothing is
+ * kept once the call completes, so this is not a cache. Only use it for calls whose result does not
+ * depend on the caller.
+ * <p>
+ * The call runs in a gRPC {@link Context} forked from the first caller's, so it keeps that caller's context values
+ * but is not cancelled when that caller's client goes away: the other callers still need it, and it stays bounded by
+ * the stubs' per-method deadlines. Each waiting caller gives up at its own deadline.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inflight = calls.putIfAbsent(key, call);
+        if (inflight != null) {
+            return await(inflight);
+        }
+
+        Context detached = Context.current().fork();
+        Context previous = detached.attach();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            detached.detach(previous);
+            calls.remove(key, call);
+        }
+    }
+
+    public int inflightCount() {
+        return calls.size();
+    }
+
+    /**
+     * Waits for another caller's call, at most until this caller's own deadline, and fails like a gRPC call that
+     * ran past it.
+     */
+    private static <V> V await(CompletableFuture<V> inflight) {
+        Deadline deadline = Context.current().getDeadline();
+        try {
+            return deadline == null
+                    ? inflight.get()
+                    : inflight.get(deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw Status.DEADLINE_EXCEEDED
+                    .withDescription("Deadline exceeded while waiting for an identical call in flight")
+                    .asRuntimeException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Status.CANCELLED.withDescription("Interrupted while waiting for an identical call in flight")
+                    .withCause(e)
+                    .asRuntimeException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
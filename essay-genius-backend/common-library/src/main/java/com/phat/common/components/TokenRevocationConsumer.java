@@ -0,0 +1,41 @@
+package com.phat.common.components;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+import static com.phat.common.Constants.KAFKA_TOPIC_TOKEN_REVOKED;
+
+/**
+ * Applies revocations published by identity-service to the local revoked-jti set and introspection cache.
+ * Records are keyed by jti and carry the token expiry in epoch milliseconds.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+public class TokenRevocationConsumer {
+
+    RevokedTokenStore revokedTokenStore;
+    IntrospectionCache introspectionCache;
+
+    @KafkaListener(topics = KAFKA_TOPIC_TOKEN_REVOKED, containerFactory = "tokenRevocationContainerFactory")
+    public void onTokenRevoked(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        try {
+            revokedTokenStore.revoke(record.key(), Instant.ofEpochMilli(Long.parseLong(record.value())));
+            introspectionCache.evict(record.key());
+        } catch (NumberFormatException e) {
+            log.warn("[{}]: Skipping malformed revocation record {}: {}", "COMMON-SERVICE", record.key(), record.value());
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,31 @@
+package com.phat.common.components;
+
+import com.phat.common.service.IdentityServiceGrpcClient;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import static com.phat.common.Constants.KAFKA_TOPIC_USER_INFO_CHANGED;
+
+/**
+ * Drops cached profiles changed in identity-service. Records are keyed by user id.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(prefix = "user-info.cache", name = "invalidation", havingValue = "true")
+public class UserInfoChangedConsumer {
+
+    IdentityServiceGrpcClient identityServiceGrpcClient;
+
+    @KafkaListener(topics = KAFKA_TOPIC_USER_INFO_CHANGED, containerFactory = "userInfoChangedContainerFactory")
+    public void onUserInfoChanged(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        identityServiceGrpcClient.evictUserInfo(record.key());
+        acknowledgment.acknowledge();
+    }
+}
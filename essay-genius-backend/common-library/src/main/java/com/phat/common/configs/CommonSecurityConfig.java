@@ -1,6 +1,7 @@
 package com.phat.common.configs;
 
 import com.phat.common.components.CustomJwtDecoder;
+import com.phat.common.components.InternalPrincipalAuthenticationFilter;
 import com.phat.common.components.JwtAuthenticationEntryPoint;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -35,6 +37,8 @@ public class CommonSecurityConfig {
     @Qualifier("customJwtDecoder")
     CustomJwtDecoder customJwtDecoder;
 
+    InternalPrincipalProperties internalPrincipalProperties;
+
     String[] PUBLIC_ENDPOINTS = new String[] {
             "/actuator/info",
             "/actuator/prometheus",
@@ -59,8 +63,16 @@ public class CommonSecurityConfig {
             log.info("[{}]: Request: {}", "Common", request);
         });
 
-        httpSecurity.oauth2ResourceServer(oauth2 -> oauth2.jwt(
-                        jwtConfigurer -> jwtConfigurer
+        // Requests the gateway already verified carry X-Internal-Principal; the bearer token is then skipped.
+        if (internalPrincipalProperties.isEnabled()) {
+            httpSecurity.addFilterBefore(
+                    new InternalPrincipalAuthenticationFilter(internalPrincipalProperties, jwtAuthenticationConverter()),
+                    BearerTokenAuthenticationFilter.class);
+        }
+
+        httpSecurity.oauth2ResourceServer(oauth2 -> oauth2
+                        .bearerTokenResolver(InternalPrincipalAuthenticationFilter.bearerTokenResolver())
+                        .jwt(jwtConfigurer -> jwtConfigurer
                                 .decoder(customJwtDecoder)
                                 .jwtAuthenticationConverter(jwtAuthenticationConverter()))
                 .authenticationEntryPoint(new JwtAuthenticationEntryPoint()))
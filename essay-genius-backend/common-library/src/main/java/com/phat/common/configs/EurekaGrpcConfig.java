@@ -0,0 +1,18 @@
+package com.phat.common.configs;
+
+import com.netflix.discovery.EurekaClient;
+import com.phat.common.components.EurekaNameResolverProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnClass(EurekaClient.class)
+public class EurekaGrpcConfig {
+
+    @Bean
+    EurekaNameResolverProvider eurekaNameResolverProvider(ObjectProvider<EurekaClient> eurekaClient) {
+        return new EurekaNameResolverProvider(eurekaClient);
+    }
+}
@@ -0,0 +1,90 @@
+package com.phat.common.configs;
+
+import com.phat.common.components.RequestDeadlineFilter;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies {@link GrpcServiceConfigProperties} to the client channels as their default service config, which the
+ * channel uses because our name resolvers never supply one.
+ */
+@Configuration
+public class GrpcServiceConfig {
+
+    @Bean
+    GrpcChannelConfigurer serviceConfigChannelConfigurer(GrpcServiceConfigProperties grpcServiceConfigProperties) {
+        return (channelBuilder, name) -> {
+            GrpcServiceConfigProperties.Channel channel = grpcServiceConfigProperties.getChannels().get(name);
+            if (channel != null) {
+                channelBuilder.defaultServiceConfig(toServiceConfig(channel)).enableRetry();
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(GrpcServiceConfigProperties grpcServiceConfigProperties) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration = new FilterRegistrationBean<>(
+                new RequestDeadlineFilter(grpcServiceConfigProperties.getRestTimeout(),
+                        grpcServiceConfigProperties.getTimeoutHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /** Builds the JSON-shaped map gRPC expects: numbers as doubles and durations as {@code "1.5s"} strings. */
+    private static Map<String, Object> toServiceConfig(GrpcServiceConfigProperties.Channel channel) {
+        List<Object> methodConfigs = new ArrayList<>();
+        for (GrpcServiceConfigProperties.Method method : channel.getMethods()) {
+            List<Object> names = new ArrayList<>();
+            if (method.getNames().isEmpty()) {
+                names.add(Map.of("service", method.getService()));
+            } else {
+                method.getNames().forEach(methodName ->
+                        names.add(Map.of("service", method.getService(), "method", methodName)));
+            }
+
+            Map<String, Object> methodConfig = new LinkedHashMap<>();
+            methodConfig.put("name", names);
+            if (method.getTimeout() != null) {
+                methodConfig.put("timeout", seconds(method.getTimeout()));
+            }
+            if (method.getHedging() != null) {
+                GrpcServiceConfigProperties.Hedging hedging = method.getHedging();
+                methodConfig.put("hedgingPolicy", Map.of(
+                        "maxAttempts", (double) hedging.getMaxAttempts(),
+                        "hedgingDelay", seconds(hedging.getDelay()),
+                        "nonFatalStatusCodes", List.copyOf(hedging.getNonFatalStatusCodes())));
+            } else if (method.getRetry() != null) {
+                GrpcServiceConfigProperties.Retry retry = method.getRetry();
+                methodConfig.put("retryPolicy", Map.of(
+                        "maxAttempts", (double) retry.getMaxAttempts(),
+                        "initialBackoff", seconds(retry.getInitialBackoff()),
+                        "maxBackoff", seconds(retry.getMaxBackoff()),
+                        "backoffMultiplier", retry.getBackoffMultiplier(),
+                        "retryableStatusCodes", List.copyOf(retry.getRetryableStatusCodes())));
+            }
+            methodConfigs.add(methodConfig);
+        }
+
+        return Map.of(
+                "methodConfig", methodConfigs,
+                "retryThrottling", Map.of(
+                        "maxTokens", channel.getRetryThrottlingMaxTokens(),
+                        "tokenRatio", channel.getRetryThrottlingTokenRatio()));
+    }
+
+    private static String seconds(Duration duration) {
+        return BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros().toPlainString() + "s";
+    }
+}
@@ -0,0 +1,68 @@
+package com.phat.common.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-method gRPC service config for the {@code @GrpcClient} channels, keyed by client name, plus the deadline
+ * given to REST requests so every nested gRPC hop shares one budget.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "grpc.service-config")
+@Data
+public class GrpcServiceConfigProperties {
+
+    private Map<String, Channel> channels = new HashMap<>();
+
+    /** Deadline for the gRPC calls made while handling a REST request; none when unset. */
+    private Duration restTimeout;
+
+    /** Header with the caller's remaining budget in milliseconds; it can only shorten {@link #restTimeout}. */
+    private String timeoutHeader = "X-Request-Timeout";
+
+    @Data
+    public static class Channel {
+        private List<Method> methods = new ArrayList<>();
+        /** Retries and hedges stop once fewer than half of these tokens are left; failures cost one token. */
+        private double retryThrottlingMaxTokens = 10;
+        /** Tokens given back by each successful call. */
+        private double retryThrottlingTokenRatio = 0.1;
+    }
+
+    @Data
+    public static class Method {
+        /** Fully qualified service, e.g. {@code com.phat.grpc.identity.IdentityService}. */
+        private String service;
+        /** Method names within the service; every method of the service when empty. */
+        private List<String> names = new ArrayList<>();
+        /** Upper bound per call, an earlier propagated deadline still wins. */
+        private Duration timeout;
+        private Retry retry;
+        /** Only for idempotent methods; takes precedence over {@link #retry}. */
+        private Hedging hedging;
+    }
+
+    @Data
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        private double backoffMultiplier = 2;
+        private List<String> retryableStatusCodes = List.of("UNAVAILABLE");
+    }
+
+    @Data
+    public static class Hedging {
+        private int maxAttempts = 2;
+        /** Wait this long for the first attempt before sending the next one. */
+        private Duration delay = Duration.ofMillis(100);
+        private List<String> nonFatalStatusCodes = List.of("UNAVAILABLE");
+    }
+}
@@ -0,0 +1,15 @@
+package com.phat.common.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jwt.internal-principal")
+@Data
+public class InternalPrincipalProperties {
+    /** Authenticate requests from the X-Internal-Principal header set by the gateway instead of decoding the token. */
+    private boolean enabled = false;
+    /** HMAC key shared with the gateway. */
+    private String signerKey;
+}
@@ -10,6 +10,7 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.kafka.config.TopicBuilder;
 
 import java.util.HashMap;
@@ -30,6 +31,10 @@ public class KafkaProperty {
 
     String keyPassword;
 
+    Map<String, Object> producerClientProperties;
+
+    Map<String, Object> consumerClientProperties;
+
     @Getter
     @NonFinal
     protected Map<String, Object> producerProperties;
@@ -46,6 +51,26 @@ public class KafkaProperty {
         this.truststoreLocation = truststoreLocation;
         this.truststorePassword = truststorePassword;
         this.keyPassword = keyPassword;
+        this.producerClientProperties = null;
+        this.consumerClientProperties = null;
+        setConsumerProperties();
+        setProducerProperties();
+    }
+
+    /**
+     * Builds the properties from what Spring Boot resolves from {@code spring.kafka.*}: the producer ones from
+     * {@code spring.kafka.producer.*} and the consumer ones from {@code spring.kafka.consumer.*}, instead of the SSL
+     * key stores. An offset reset set there wins over the default below.
+     */
+    public KafkaProperty(KafkaProperties kafkaProperties) {
+        this.bootstrapServers = null;
+        this.keystoreLocation = null;
+        this.keystorePassword = null;
+        this.truststoreLocation = null;
+        this.truststorePassword = null;
+        this.keyPassword = null;
+        this.producerClientProperties = Map.copyOf(kafkaProperties.buildProducerProperties(null));
+        this.consumerClientProperties = Map.copyOf(kafkaProperties.buildConsumerProperties(null));
         setConsumerProperties();
         setProducerProperties();
     }
@@ -60,19 +85,22 @@ public class KafkaProperty {
 
 /*_________________________________________________COMMON-PROPERTIES________________________________________________________*/
     private void setProducerProperties() {
-        producerProperties = new HashMap<>(commonConfigs());
+        producerProperties = new HashMap<>(commonConfigs(producerClientProperties));
         producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
     }
 
     private void setConsumerProperties() {
-        consumerProperties = new HashMap<>(commonConfigs());
-        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumerProperties = new HashMap<>(commonConfigs(consumerClientProperties));
+        consumerProperties.putIfAbsent(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
         consumerProperties.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
         consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         consumerProperties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
     }
 
-    private Map<String, Object> commonConfigs() {
+    private Map<String, Object> commonConfigs(Map<String, Object> clientProperties) {
+        if (clientProperties != null) {
+            return new HashMap<>(clientProperties);
+        }
         Map<String, Object> props = new HashMap<>();
         props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(AdminClientConfig.SECURITY_PROTOCOL_CONFIG, "SSL");
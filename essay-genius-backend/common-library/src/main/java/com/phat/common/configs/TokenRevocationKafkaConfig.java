@@ -0,0 +1,48 @@
+package com.phat.common.configs;
+
+import com.phat.common.components.KafkaFactory;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+import java.util.Map;
+
+import static com.phat.common.Constants.INSTANCE_ID;
+import static com.phat.common.Constants.KAFKA_TOPIC_TOKEN_REVOKED;
+
+@Configuration
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+public class TokenRevocationKafkaConfig {
+
+    @Bean
+    public KafkaFactory<String> tokenRevocationKafkaFactory(KafkaProperties kafkaProperties) {
+        return KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+    }
+
+    @Bean
+    public NewTopic tokenRevokedTopic() {
+        return KafkaFactory.createTopic(KAFKA_TOPIC_TOKEN_REVOKED, 1, 1);
+    }
+
+    /**
+     * Every instance has to see every revocation, so each one consumes with its own group id.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> tokenRevocationContainerFactory(
+            KafkaFactory<String> tokenRevocationKafkaFactory,
+            ServiceProperties serviceProperties,
+            @Value(INSTANCE_ID) String instanceId) {
+        String groupId = serviceProperties.getName() + "-revocation-" + instanceId;
+        return tokenRevocationKafkaFactory.createContainerFactory(
+                tokenRevocationKafkaFactory.createConsumerFactory(groupId, StringDeserializer.class, Map.of()),
+                1,
+                serviceProperties.getName() + "-revocation");
+    }
+}
@@ -0,0 +1,17 @@
+package com.phat.common.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jwt.revocation")
+@Data
+public class TokenRevocationProperties {
+    /** Subscribe to the revocation topic and keep a local revoked-jti set. */
+    private boolean enabled = false;
+    /** Skip introspection entirely and trust the local signature check plus the revoked-jti set. */
+    private boolean localValidation = false;
+    /** Load the currently revoked jtis from identity-service before serving requests. */
+    private boolean rebuildOnStartup = true;
+}
@@ -0,0 +1,44 @@
+package com.phat.common.configs;
+
+import com.phat.common.components.KafkaFactory;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+import java.util.Map;
+
+import static com.phat.common.Constants.INSTANCE_ID;
+import static com.phat.common.Constants.KAFKA_TOPIC_USER_INFO_CHANGED;
+
+@Configuration
+@ConditionalOnProperty(prefix = "user-info.cache", name = "invalidation", havingValue = "true")
+public class UserInfoCacheKafkaConfig {
+
+    @Bean
+    public NewTopic userInfoChangedTopic() {
+        return KafkaFactory.createTopic(KAFKA_TOPIC_USER_INFO_CHANGED, 1, 1);
+    }
+
+    /**
+     * Every instance holds its own cache, so each one consumes with its own group id.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> userInfoChangedContainerFactory(
+            KafkaProperties kafkaProperties,
+            ServiceProperties serviceProperties,
+            @Value(INSTANCE_ID) String instanceId) {
+        KafkaFactory<String> kafkaFactory = KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+        String groupId = serviceProperties.getName() + "-user-info-" + instanceId;
+        return kafkaFactory.createContainerFactory(
+                kafkaFactory.createConsumerFactory(groupId, StringDeserializer.class, Map.of()),
+                1,
+                serviceProperties.getName() + "-user-info");
+    }
+}
@@ -0,0 +1,19 @@
+package com.phat.common.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "user-info.cache")
+@Data
+public class UserInfoCacheProperties {
+    private boolean enabled = true;
+    private long maxSize = 10_000;
+    /** Upper bound on staleness when an invalidation is missed. */
+    private Duration ttl = Duration.ofMinutes(5);
+    /** Subscribe to profile change notifications from identity-service. */
+    private boolean invalidation = false;
+}
@@ -0,0 +1,55 @@
+package com.phat.common.configs;
+
+import com.phat.common.components.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Runs request handling on virtual threads when {@code spring.threads.virtual.enabled} is true. Spring Boot
+ * already switches Tomcat, the {@code applicationTaskExecutor} behind {@code @Async} and its own Kafka listener
+ * factory; this covers what Boot does not know about: the {@code @GrpcService} executor and the listener
+ * container factories built through {@link com.phat.common.components.KafkaFactory}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    GrpcServerConfigurer virtualThreadGrpcServerConfigurer() {
+        return serverBuilder -> serverBuilder.executor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-vt-", 0).factory()));
+    }
+
+    @Bean
+    static BeanPostProcessor virtualThreadKafkaListenerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractKafkaListenerContainerFactory<?, ?, ?> factory
+                        && factory.getContainerProperties().getListenerTaskExecutor() == null) {
+                    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(beanName + "-vt-");
+                    executor.setVirtualThreads(true);
+                    factory.getContainerProperties().setListenerTaskExecutor(executor);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "pinning-monitor-enabled", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties virtualThreadProperties,
+                                                            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(virtualThreadProperties.getPinningThreshold(), meterRegistry);
+    }
+}
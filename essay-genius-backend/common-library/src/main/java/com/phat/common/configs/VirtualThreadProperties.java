@@ -0,0 +1,20 @@
+package com.phat.common.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Diagnostics for the virtual-thread mode, which itself is switched with {@code spring.threads.virtual.enabled}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "virtual-threads")
+@Data
+public class VirtualThreadProperties {
+    /** Record {@code jdk.VirtualThreadPinned} JFR events and log where carrier threads get pinned. */
+    private boolean pinningMonitorEnabled = true;
+    /** Pins shorter than this are ignored, so short uncontended {@code synchronized} blocks do not show up. */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
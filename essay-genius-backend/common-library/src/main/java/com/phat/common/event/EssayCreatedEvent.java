@@ -0,0 +1,9 @@
+package com.phat.common.event;
+
+/**
+ * Published after an essay submission is stored, so services that validate essay ids can learn about it.
+ */
+public record EssayCreatedEvent(
+        String essayId
+) {
+}
@@ -0,0 +1,9 @@
+package com.phat.common.event;
+
+/**
+ * Published after an essay submission is deleted, so services that validate essay ids stop accepting it.
+ */
+public record EssayDeletedEvent(
+        String essayId
+) {
+}
@@ -0,0 +1,13 @@
+package com.phat.common.event;
+
+import java.util.Date;
+
+/**
+ * Published when identity-service revokes a token (sign-out or refresh), so that
+ * local token caches can drop it before it naturally expires.
+ */
+public record TokenRevokedEvent(
+        String jti,
+        Date expiryTime
+) {
+}
@@ -0,0 +1,9 @@
+package com.phat.common.event;
+
+/**
+ * Published when a user's profile (name, bio, avatar) changes, so cached copies can be dropped.
+ */
+public record UserInfoChangedEvent(
+        String userId
+) {
+}
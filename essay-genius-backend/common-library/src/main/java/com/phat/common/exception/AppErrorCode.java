@@ -47,8 +47,13 @@ public enum AppErrorCode {
     RATE_LIMIT_EXCEEDED("auth/rate-limit-exceeded", "rate_limit_exceeded"),
     // gRPC Errors
     CONNECTION_REFUSED("grpc/connection-refused", "connection_refused"),
+    AI_SERVICE_UNAVAILABLE("grpc/ai-service-unavailable", "ai_service_unavailable"),
+    AI_SERVICE_OVERLOADED("grpc/ai-service-overloaded", "ai_service_overloaded"),
 
     GET_USER_INFO_FAILED("identity/get-user-info-failed", "get_user_info_failed"),
+
+    // Essay Errors
+    SCORING_JOB_NOT_FOUND("essay/scoring-job-not-found", "scoring_job_not_found"),
     //common error
     ALREADY_EXISTS("common/already-exists", "already_exists"),
     ;
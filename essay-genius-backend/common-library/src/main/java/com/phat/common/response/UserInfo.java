@@ -21,4 +21,19 @@ public class UserInfo {
     String avatar;
 
     String bio;
+
+    /**
+     * Stands in for a user identity-service could not return, with empty strings where identity-service would send
+     * them for a user without names, so clients can render it like any other user.
+     */
+    public static UserInfo placeholder(String id) {
+        return UserInfo.builder()
+                .id(id)
+                .email("")
+                .firstName("")
+                .lastName("")
+                .avatar("")
+                .bio("")
+                .build();
+    }
 }
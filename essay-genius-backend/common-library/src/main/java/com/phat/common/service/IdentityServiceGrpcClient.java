@@ -1,22 +1,31 @@
 package com.phat.common.service;
 
 import com.google.protobuf.Empty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phat.common.components.SingleFlight;
+import com.phat.common.configs.UserInfoCacheProperties;
+import com.phat.common.event.UserInfoChangedEvent;
 import com.phat.common.exception.AppErrorCode;
 import com.phat.common.exception.AppException;
 import com.phat.common.response.UserInfo;
-import com.phat.grpc.essay.GetEssayIdsResponse;
 import com.phat.grpc.identity.*;
 import com.phat.grpc.interaction.GetInteractionCountResponse;
+import io.grpc.Context;
 import io.grpc.Status;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.apache.catalina.User;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.phat.common.Utils.runWithAuthContext;
 
@@ -27,6 +36,22 @@ public class IdentityServiceGrpcClient {
     @GrpcClient("identity-service")
     private IdentityServiceGrpc.IdentityServiceBlockingStub identityServiceClient;
 
+    /** L1 profile cache; identity-service keeps the shared L2 copy in Redis. */
+    private final Cache<String, UserInfo> userInfoCache;
+
+    private final boolean userInfoCacheEnabled;
+
+    /** Cache misses for the same author during a feed render share one call. */
+    private final SingleFlight<String, UserInfo> userInfoCalls = new SingleFlight<>();
+
+    public IdentityServiceGrpcClient(UserInfoCacheProperties userInfoCacheProperties) {
+        this.userInfoCacheEnabled = userInfoCacheProperties.isEnabled();
+        this.userInfoCache = Caffeine.newBuilder()
+                .maximumSize(userInfoCacheProperties.getMaxSize())
+                .expireAfterWrite(userInfoCacheProperties.getTtl())
+                .build();
+    }
+
     public IntrospectResponse introspect(String token) {
         try {
 //            boolean isValid = runWithAuthContext(token, () -> identityServiceClient
@@ -52,36 +77,125 @@ public class IdentityServiceGrpcClient {
     }
 
     public UserInfo getUserInfo(String userId) {
+        UserInfo cached = userInfoCacheEnabled ? userInfoCache.getIfPresent(userId) : null;
+        if (cached != null) {
+            return cached;
+        }
+        return userInfoCalls.execute(userId, () -> fetchUserInfo(userId));
+    }
+
+    private UserInfo fetchUserInfo(String userId) {
         try {
             GetUserInfoResponse response = identityServiceClient
                     .getUserInfo(GetUserInfoRequest.newBuilder()
                             .setUserId(userId)
                             .build());
 
-            return UserInfo.builder()
-                    .id(response.getUserId())
-                    .firstName(response.getFirstName())
-                    .lastName(response.getLastName())
-                    .avatar(response.getAvatar())
-                    .email(response.getEmail())
-                    .bio(response.getBio())
-                    .build();
+            UserInfo userInfo = toUserInfo(response);
+            if (userInfoCacheEnabled) {
+                userInfoCache.put(userId, userInfo);
+            }
+            return userInfo;
         } catch (Exception e) {
             log.info("[{}]: Error occurred while getting user info: {}", "COMMON-SERVICE", e.getMessage());
             throw new AppException(AppErrorCode.GET_USER_INFO_FAILED, Status.UNAUTHENTICATED, e.getLocalizedMessage());
         }
     }
 
-    public List<String> getUserIds() {
+    /**
+     * Resolves the given users with a single round trip to identity-service.
+     * Null and duplicate ids are dropped; ids without a matching user are absent from the result.
+     */
+    public Map<String, UserInfo> getUserInfos(Collection<String> userIds) {
+        Set<String> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, UserInfo> userInfos = new HashMap<>(
+                userInfoCacheEnabled ? userInfoCache.getAllPresent(distinctIds) : Map.of());
+        distinctIds.removeAll(userInfos.keySet());
+        if (distinctIds.isEmpty()) {
+            return userInfos;
+        }
         try {
-            GetUserIdsResponse response = identityServiceClient
-                    .getUserIds(Empty.getDefaultInstance());
+            GetUserInfosResponse response = identityServiceClient
+                    .getUserInfos(GetUserInfosRequest.newBuilder()
+                            .addAllUserIds(distinctIds)
+                            .build());
 
-            return response.getUserIdsList();
+            response.getUserInfosList().forEach(info -> {
+                UserInfo userInfo = toUserInfo(info);
+                userInfos.putIfAbsent(userInfo.getId(), userInfo);
+                if (userInfoCacheEnabled) {
+                    userInfoCache.put(userInfo.getId(), userInfo);
+                }
+            });
+            return userInfos;
+        } catch (Exception e) {
+            log.info("[{}]: Error occurred while getting user infos: {}", "COMMON-SERVICE", e.getMessage());
+            throw new AppException(AppErrorCode.GET_USER_INFO_FAILED, Status.UNAUTHENTICATED, e.getLocalizedMessage());
+        }
+    }
+
+    public void evictUserInfo(String userId) {
+        userInfoCache.invalidate(userId);
+    }
+
+    @EventListener
+    public void onUserInfoChanged(UserInfoChangedEvent event) {
+        evictUserInfo(event.userId());
+    }
+
+    private UserInfo toUserInfo(GetUserInfoResponse response) {
+        return UserInfo.builder()
+                .id(response.getUserId())
+                .firstName(response.getFirstName())
+                .lastName(response.getLastName())
+                .avatar(response.getAvatar())
+                .email(response.getEmail())
+                .bio(response.getBio())
+                .build();
+    }
+
+    public List<String> getUserIds() {
+        List<String> userIds = new ArrayList<>();
+        forEachUserIdChunk(userIds::addAll);
+        return userIds;
+    }
+
+    /**
+     * Streams every user id from identity-service, handing them over one chunk at a time. Prefer this to
+     * {@link #getUserIds()} when the ids do not all need to be held at once.
+     */
+    public void forEachUserIdChunk(Consumer<List<String>> chunkConsumer) {
+        // Closing the context cancels the call if the consumer stops before the stream is exhausted.
+        try (Context.CancellableContext context = Context.current().withCancellation()) {
+            context.run(() -> identityServiceClient
+                    .getUserIds(Empty.getDefaultInstance())
+                    .forEachRemaining(response -> chunkConsumer.accept(response.getUserIdsList())));
         } catch (Exception e) {
             log.info("[{}]: Error occurred while getting user ids: {}", "COMMON-SERVICE", e.getMessage());
             throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST,"gRPC request failed", e);
         }
     }
 
+    /**
+     * The access tokens revoked and not yet expired, read chunk by chunk from identity-service's stream.
+     */
+    public Map<String, Instant> getRevokedTokens() {
+        try {
+            Map<String, Instant> revokedTokens = new HashMap<>();
+            identityServiceClient
+                    .getRevokedTokens(Empty.getDefaultInstance())
+                    .forEachRemaining(response -> response.getRevokedTokensList().forEach(token ->
+                            revokedTokens.putIfAbsent(token.getJti(), Instant.ofEpochMilli(token.getExpiresAt()))));
+            return revokedTokens;
+        } catch (Exception e) {
+            log.info("[{}]: Error occurred while getting revoked tokens: {}", "COMMON-SERVICE", e.getMessage());
+            throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST,"gRPC request failed", e);
+        }
+    }
+
 }
@@ -5,20 +5,29 @@ import com.phat.api.model.response.EssayScoredResponse;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import com.phat.api.model.request.EssaySaveRequest;
 import com.phat.api.model.request.EssayTaskTwoScoringRequest;
+import com.phat.api.model.request.EssaySearchRequest;
 import com.phat.api.model.request.ListEssayRequest;
+import com.phat.api.model.request.ScoringJobRequest;
 import com.phat.api.model.response.CommonResponse;
 import com.phat.api.model.response.EssayResponseWrapper;
 import com.phat.api.model.response.EssaySaveResponse;
+import com.phat.api.model.response.EssaySearchResponse;
+import com.phat.api.model.response.ScoringJobResponse;
+import com.phat.app.service.EssaySearchService;
 import com.phat.app.service.EssaySubmissionService;
+import com.phat.app.service.ScoringJobService;
+import com.phat.app.service.ScoringStreamService;
 import com.phat.app.service.impl.AIGrpcClient;
 import com.phat.domain.enums.Visibility;
 import com.phat.domain.model.EssaySubmission;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -27,6 +36,9 @@ import java.util.List;
 public class EssayController {
     private final AIGrpcClient aiEssayGrpcClient;
     private final EssaySubmissionService essaySubmissionService;
+    private final EssaySearchService essaySearchService;
+    private final ScoringJobService scoringJobService;
+    private final ScoringStreamService scoringStreamService;
 
     @GetMapping("hello")
     public String hello() {
@@ -41,6 +53,29 @@ public class EssayController {
                 .body(aiEssayGrpcClient.getScores(essayScoringRequest.essayPrompt(), essayScoringRequest.essayText()));
     }
 
+    @PostMapping(value = "/scoring-essay/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScoring(@Valid @RequestBody ScoringJobRequest scoringRequest) {
+        return scoringStreamService.stream(scoringRequest);
+    }
+
+    @PostMapping("/scoring-jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseEntity<ScoringJobResponse> submitScoringJob(@Valid @RequestBody ScoringJobRequest scoringJobRequest) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(scoringJobService.submit(scoringJobRequest));
+    }
+
+    @GetMapping("/scoring-jobs/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ScoringJobResponse> getScoringJob(@PathVariable String id) {
+        return ResponseEntity.ok(scoringJobService.findJobById(id));
+    }
+
+    @GetMapping(value = "/scoring-jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScoringJob(@PathVariable String id) {
+        return scoringJobService.subscribe(id);
+    }
+
     @PostMapping("/generate-essay-prompt")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<EssayResponseWrapper<String>> generateEssayPrompt(@RequestBody TopicsRequest request)
@@ -90,10 +125,16 @@ public class EssayController {
 
     @GetMapping("")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Page<EssayScoredResponse>> getEssays(@ModelAttribute ListEssayRequest listEssayRequest)
+    public ResponseEntity<Slice<EssayScoredResponse>> getEssays(@ModelAttribute ListEssayRequest listEssayRequest)
             throws Exception {
         return ResponseEntity.ok(
                 essaySubmissionService.findAllEssays(listEssayRequest));
     }
 
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<EssaySearchResponse> searchEssays(@Valid @ModelAttribute EssaySearchRequest essaySearchRequest) {
+        return ResponseEntity.ok(essaySearchService.search(essaySearchRequest));
+    }
+
 }
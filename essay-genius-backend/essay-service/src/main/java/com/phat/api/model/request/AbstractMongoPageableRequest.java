@@ -12,6 +12,7 @@ public abstract class AbstractMongoPageableRequest<T> implements MongoPageableRe
     private String[] sortFields = new String[] {"createdAt"};
     private Boolean[] desc = new Boolean[] {true};
     private String[] ids;
+    private String cursor;
 
     public abstract Criteria toCriteria();
 }
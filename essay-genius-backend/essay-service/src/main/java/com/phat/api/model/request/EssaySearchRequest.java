@@ -0,0 +1,27 @@
+package com.phat.api.model.request;
+
+import com.phat.domain.enums.Visibility;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EssaySearchRequest {
+  @NotBlank(message = "Search query cannot be blank")
+  private String q;
+
+  private Double bandFrom;
+  private Double bandTo;
+
+  private Visibility visibility;
+
+  @Min(0)
+  private Integer page = 0;
+
+  @Min(1)
+  @Max(100)
+  private Integer size = 10;
+}
@@ -0,0 +1,50 @@
+package com.phat.api.model.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position of the last document of a slice: the value of the sort key and the document id.
+ * Serialized as an opaque URL-safe token; the type tag keeps dates and numbers comparable after decoding.
+ */
+public record KeysetCursor(Object sortValue, String id) {
+
+    public String encode() {
+        String value;
+        if (sortValue == null) {
+            value = "z:";
+        } else if (sortValue instanceof Date date) {
+            value = "d:" + date.getTime();
+        } else if (sortValue instanceof Integer || sortValue instanceof Long) {
+            value = "l:" + sortValue;
+        } else if (sortValue instanceof Number number) {
+            value = "n:" + number.doubleValue();
+        } else {
+            value = "s:" + sortValue;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + "\n" + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('\n');
+            String id = decoded.substring(0, separator);
+            String type = decoded.substring(separator + 1, separator + 2);
+            String value = decoded.substring(separator + 3);
+            Object sortValue = switch (type) {
+                case "z" -> null;
+                case "d" -> new Date(Long.parseLong(value));
+                case "l" -> Long.parseLong(value);
+                case "n" -> Double.parseDouble(value);
+                case "s" -> value;
+                default -> throw new IllegalArgumentException("Unknown cursor type " + type);
+            };
+            return new KeysetCursor(sortValue, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
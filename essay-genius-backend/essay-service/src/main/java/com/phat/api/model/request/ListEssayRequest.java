@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static com.phat.common.Utils.getCurrentUser;
 
@@ -18,6 +19,8 @@ import static com.phat.common.Utils.getCurrentUser;
 @Setter
 public class ListEssayRequest extends AbstractMongoPageableRequest<EssaySubmission> {
 
+  private static final Pattern REGEX_META = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
   private String promptText;
 
   private Double bandFrom;
@@ -42,8 +45,9 @@ public class ListEssayRequest extends AbstractMongoPageableRequest<EssaySubmissi
       criteriaList.add(Criteria.where("id").in(Arrays.asList(getIds())));
     }
 
+    // Prompts that contain the text, ignoring case. The text is matched literally: metacharacters are escaped.
     if (StringUtils.hasText(promptText)) {
-      criteriaList.add(Criteria.where("promptText").regex(promptText, "i"));
+      criteriaList.add(Criteria.where("promptText").regex(REGEX_META.matcher(promptText).replaceAll("\\\\$0"), "i"));
     }
 
     if (bandFrom != null && bandTo != null) {
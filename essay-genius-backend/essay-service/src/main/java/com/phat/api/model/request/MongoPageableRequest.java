@@ -1,12 +1,18 @@
 package com.phat.api.model.request;
 
+import java.util.List;
 import java.util.stream.IntStream;
 
+import com.phat.api.model.response.CursorSlice;
+import org.bson.types.ObjectId;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.StringUtils;
 
 public interface MongoPageableRequest<T> {
     Integer getPage();
@@ -14,6 +20,7 @@ public interface MongoPageableRequest<T> {
     String[] getSortFields();
     Boolean[] getDesc();
     String[] getIds();
+    String getCursor();
 
     default Sort toSort() {
         if (getSortFields() == null || getSortFields().length == 0) {
@@ -53,5 +60,71 @@ public interface MongoPageableRequest<T> {
     default Query toQuery() {
         return toQuery("id");
     }
-}
 
+    /**
+     * Cursor mode is selected by sending the {@code cursor} parameter; an empty value asks for the first slice.
+     */
+    default boolean isCursorMode() {
+        return getCursor() != null;
+    }
+
+    /**
+     * Keyset query: orders by the first sort field plus {@code _id} and resumes strictly after the cursor,
+     * so no documents are skipped and no total count is needed. One extra document is fetched to detect a next slice.
+     */
+    default Query toCursorQuery(Criteria criteria) {
+        Sort.Order order = toCursorOrder();
+        boolean descending = order.isDescending();
+        String property = order.getProperty();
+        Criteria combined = criteria;
+
+        if (StringUtils.hasText(getCursor())) {
+            KeysetCursor cursor = KeysetCursor.decode(getCursor());
+            Object id = ObjectId.isValid(cursor.id()) ? new ObjectId(cursor.id()) : cursor.id();
+            Criteria sameKeyAfterId = new Criteria().andOperator(
+                    Criteria.where(property).is(cursor.sortValue()),
+                    descending ? Criteria.where("id").lt(id) : Criteria.where("id").gt(id));
+            Criteria after;
+            if (cursor.sortValue() == null) {
+                // null sorts before every other value
+                after = descending
+                        ? sameKeyAfterId
+                        : new Criteria().orOperator(sameKeyAfterId, Criteria.where(property).ne(null));
+            } else {
+                after = new Criteria().orOperator(
+                        descending
+                                ? Criteria.where(property).lt(cursor.sortValue())
+                                : Criteria.where(property).gt(cursor.sortValue()),
+                        sameKeyAfterId);
+            }
+            combined = new Criteria().andOperator(criteria, after);
+        }
+
+        return new Query(combined)
+                .with(Sort.by(order, new Sort.Order(order.getDirection(), "id")))
+                .limit(toCursorSize() + 1);
+    }
+
+    default <E> CursorSlice<E> toCursorSlice(List<E> documents) {
+        int size = toCursorSize();
+        if (documents.size() <= size) {
+            return new CursorSlice<>(documents, size, null);
+        }
+        List<E> content = documents.subList(0, size);
+        BeanWrapper last = new BeanWrapperImpl(content.get(size - 1));
+        String nextCursor = new KeysetCursor(
+                last.getPropertyValue(toCursorOrder().getProperty()),
+                String.valueOf(last.getPropertyValue("id"))).encode();
+        return new CursorSlice<>(content, size, nextCursor);
+    }
+
+    private Sort.Order toCursorOrder() {
+        return toSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.desc("createdAt"));
+    }
+
+    private int toCursorSize() {
+        return getSize() != null && getSize() > 0 ? getSize() : 10;
+    }
+}
@@ -0,0 +1,17 @@
+package com.phat.api.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record ScoringJobRequest(
+        @NotBlank
+        String essayPrompt,
+
+        @NotBlank
+        String essayText,
+
+        /* public or private; the essay is saved with this visibility once scored (defaults to private) */
+        @Pattern(regexp = "(?i)public|private")
+        String visibility
+) {
+}
@@ -0,0 +1,24 @@
+package com.phat.api.model.response;
+
+import com.phat.domain.enums.Visibility;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EssaySearchHit {
+  String id;
+  String promptText;
+  /** Excerpt of the essay around the first matched term, matches wrapped in {@code <em>}. */
+  String snippet;
+  Double band;
+  Visibility visibility;
+  Date createdAt;
+  double score;
+}
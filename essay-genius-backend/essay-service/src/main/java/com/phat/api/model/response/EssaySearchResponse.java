@@ -0,0 +1,23 @@
+package com.phat.api.model.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EssaySearchResponse {
+  List<EssaySearchHit> hits;
+  long total;
+  int page;
+  int size;
+  /** Number of matching essays per whole band (e.g. 6.0 covers 6.0 - 6.5). */
+  Map<Double, Long> bandFacets;
+  Map<String, Long> visibilityFacets;
+}
@@ -0,0 +1,24 @@
+package com.phat.api.model.response;
+
+import com.phat.domain.enums.ScoringJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringJobResponse {
+    private String jobId;
+    private ScoringJobStatus status;
+    private Boolean valid;
+    private EssayTaskTwoScoreResponse result;
+    private String message;
+    private String essayId;
+    private Date createdAt;
+    private Date updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.phat.api.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last event of a scoring stream: the assembled result and, when it was valid, the saved essay.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringStreamResult {
+    private EssayResponseWrapper<?> response;
+    private String essayId;
+}
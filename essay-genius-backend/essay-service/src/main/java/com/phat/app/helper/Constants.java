@@ -11,5 +11,9 @@ public class Constants {
 
     public static final String KAFKA_TOPIC_SEND_MAIL = "SEND_MAIL";
 
+    public static final String KAFKA_TOPIC_SCORING_JOBS = "SCORING_JOBS";
+
+    public static final String KAFKA_TOPIC_SCORING_JOB_UPDATES = "SCORING_JOB_UPDATES";
+
     public static final JWSAlgorithm ACCESS_TOKEN_SIGNATURE_ALGORITHM = HS512;
 }
@@ -0,0 +1,8 @@
+package com.phat.app.service;
+
+import com.phat.api.model.request.EssaySearchRequest;
+import com.phat.api.model.response.EssaySearchResponse;
+
+public interface EssaySearchService {
+    EssaySearchResponse search(EssaySearchRequest request);
+}
@@ -7,7 +7,7 @@ import com.phat.api.model.response.EssayScoredResponse;
 import com.phat.api.model.response.EssayTaskTwoScoreResponse;
 import com.phat.domain.enums.Visibility;
 import com.phat.domain.model.EssaySubmission;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface EssaySubmissionService {
     EssaySubmission saveEssay(String essayText, String promptText, EssayResponseWrapper<EssayTaskTwoScoreResponse> essayTaskTwoScoreResponse, Visibility visibility) throws Exception;
@@ -16,5 +16,5 @@ public interface EssaySubmissionService {
 
     EssaySubmission findEssayById(String id) throws Exception;
 
-    Page<EssayScoredResponse> findAllEssays(ListEssayRequest listEssayRequest) throws Exception;
+    Slice<EssayScoredResponse> findAllEssays(ListEssayRequest listEssayRequest) throws Exception;
 }
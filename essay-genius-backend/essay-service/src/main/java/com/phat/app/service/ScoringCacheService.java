@@ -0,0 +1,11 @@
+package com.phat.app.service;
+
+import com.phat.api.model.response.EssayResponseWrapper;
+
+import java.util.Optional;
+
+public interface ScoringCacheService {
+    Optional<EssayResponseWrapper<?>> get(String essayPrompt, String essayText);
+
+    void put(String essayPrompt, String essayText, EssayResponseWrapper<?> response);
+}
@@ -0,0 +1,17 @@
+package com.phat.app.service;
+
+import com.phat.api.model.request.ScoringJobRequest;
+import com.phat.api.model.response.ScoringJobResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ScoringJobService {
+    ScoringJobResponse submit(ScoringJobRequest request);
+
+    ScoringJobResponse findJobById(String jobId);
+
+    SseEmitter subscribe(String jobId);
+
+    void process(String jobId);
+
+    void onJobUpdated(String jobId);
+}
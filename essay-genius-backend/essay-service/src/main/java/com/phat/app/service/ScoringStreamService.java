@@ -0,0 +1,8 @@
+package com.phat.app.service;
+
+import com.phat.api.model.request.ScoringJobRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ScoringStreamService {
+    SseEmitter stream(ScoringJobRequest request);
+}
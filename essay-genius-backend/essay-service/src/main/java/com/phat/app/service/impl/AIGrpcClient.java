@@ -4,15 +4,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.phat.api.model.response.EssayResponseWrapper;
 import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.app.service.ScoringCacheService;
+import com.phat.common.components.AdaptiveConcurrencyLimiter;
 import com.phat.common.exception.AppErrorCode;
 import com.phat.common.exception.AppException;
 import com.phat.grpc.ai.*;
+import com.phat.infrastructure.mapper.EssayScoreMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.phat.infrastructure.configuration.AIServiceResilienceConfig.AI_SERVICE_FAILURES;
 
 @Slf4j
 @Service
@@ -21,19 +33,63 @@ public class AIGrpcClient {
     @GrpcClient("ai-service")
     private AIServiceGrpc.AIServiceBlockingStub stub;
 
+    /** Parses the JSON {@code result} of AI services that predate the typed {@code score} field. */
+    private static final ObjectMapper LEGACY_RESULT_MAPPER = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+    private final ScoringCacheService scoringCacheService;
+    private final EssayScoreMapper essayScoreMapper;
+    private final AdaptiveConcurrencyLimiter aiServiceLimiter;
+    private final CircuitBreaker aiServiceCircuitBreaker;
+    private final Counter limitRejections;
+    private final Counter circuitRejections;
+
+    public AIGrpcClient(ScoringCacheService scoringCacheService,
+                        EssayScoreMapper essayScoreMapper,
+                        AdaptiveConcurrencyLimiter aiServiceLimiter,
+                        CircuitBreaker aiServiceCircuitBreaker,
+                        MeterRegistry meterRegistry) {
+        this.scoringCacheService = scoringCacheService;
+        this.essayScoreMapper = essayScoreMapper;
+        this.aiServiceLimiter = aiServiceLimiter;
+        this.aiServiceCircuitBreaker = aiServiceCircuitBreaker;
+        this.limitRejections = rejectionCounter(meterRegistry, "limit");
+        this.circuitRejections = rejectionCounter(meterRegistry, "circuit");
+    }
+
+    /**
+     * Consumes a scoring stream while it holds a limiter slot; the slot is released when it returns.
+     */
+    @FunctionalInterface
+    public interface ScoringStreamHandler<T> {
+        T handle(Iterator<ScoringEvent> events) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface GuardedCall<T> {
+        T call() throws IOException;
+    }
+
     public EssayResponseWrapper<?> getScores(String essayPrompt, String essayText) {
+        return scoringCacheService.get(essayPrompt, essayText).orElseGet(() -> {
+            EssayResponseWrapper<?> response = requestScores(essayPrompt, essayText);
+            scoringCacheService.put(essayPrompt, essayText, response);
+            return response;
+        });
+    }
+
+    private EssayResponseWrapper<?> requestScores(String essayPrompt, String essayText) {
         try {
             ScoringRequest request = ScoringRequest.newBuilder()
                     .setEssayPrompt(essayPrompt)
                     .setEssayText(essayText)
                     .build();
-            ScoringResponse response = stub.scoring(request);
+            ScoringResponse response = guarded(() -> stub.scoring(request));
 
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
             if (response.getValid()) {
-                EssayTaskTwoScoreResponse essayTaskTwoScoreResponse =
-                        objectMapper.readValue(response.getResult(), EssayTaskTwoScoreResponse.class);
+                EssayTaskTwoScoreResponse essayTaskTwoScoreResponse = response.hasScore()
+                        ? essayScoreMapper.toEssayTaskTwoScoreResponse(response.getScore())
+                        : LEGACY_RESULT_MAPPER.readValue(response.getResult(), EssayTaskTwoScoreResponse.class);
 
                 return EssayResponseWrapper.<EssayTaskTwoScoreResponse>builder()
                         .valid(response.getValid())
@@ -45,6 +101,54 @@ public class AIGrpcClient {
                         .result(response.getResult())
                         .build();
             }
+        } catch (AppException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("gRPC Error: " + e.getMessage());
+            throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST,"gRPC request failed", e);
+        }
+    }
+
+    /**
+     * Runs a server-streaming scoring call through {@code handler}. The call is bound to the current gRPC
+     * {@code Context}, so cancelling that context (e.g. when the browser disconnects) stops the generation.
+     * <p>
+     * A stream is judged by the breaker on its time to first event, since a healthy generation runs far longer
+     * than the slow-call threshold, and gives the limiter no latency sample; it holds a limiter slot until it ends.
+     */
+    public <T> T streamScores(String essayPrompt, String essayText, ScoringStreamHandler<T> handler)
+            throws IOException {
+        try {
+            Permit permit = acquire();
+            try {
+                Iterator<ScoringEvent> events = stub.scoringStream(ScoringRequest.newBuilder()
+                        .setEssayPrompt(essayPrompt)
+                        .setEssayText(essayText)
+                        .build());
+                T result = handler.handle(new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        boolean hasNext = events.hasNext();
+                        permit.recordBreakerSuccess();
+                        return hasNext;
+                    }
+
+                    @Override
+                    public ScoringEvent next() {
+                        return events.next();
+                    }
+                });
+                permit.onStreamCompleted();
+                return result;
+            } catch (StatusRuntimeException e) {
+                permit.onError(e);
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                permit.onIgnore();
+                throw e;
+            }
+        } catch (AppException | IOException e) {
+            throw e;
         } catch (Exception e) {
             log.error("gRPC Error: " + e.getMessage());
             throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST,"gRPC request failed", e);
@@ -57,15 +161,108 @@ public class AIGrpcClient {
                     .addAllTopics(topic)
                     .build();
 
-            GenerateEssayPromptResponse response = stub.generateEssayPrompt(request);
+            GenerateEssayPromptResponse response = guarded(() -> stub.generateEssayPrompt(request));
 
             return EssayResponseWrapper.<String>builder()
                     .valid(response.getValid())
                     .result(response.getResult())
                     .build();
+        } catch (AppException e) {
+            throw e;
         } catch (Exception e) {
             log.error("gRPC Error: " + e.getMessage());
             throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST,"gRPC request failed", e);
         }
     }
+
+    /**
+     * Fails fast while the circuit is open or the adaptive limit is reached, instead of queueing behind a
+     * slow AI backend. Outcomes feed both the breaker and the limiter.
+     */
+    private <T> T guarded(GuardedCall<T> call) throws IOException {
+        Permit permit = acquire();
+        try {
+            T result = call.call();
+            permit.onSuccess();
+            return result;
+        } catch (StatusRuntimeException e) {
+            permit.onError(e);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            permit.onIgnore();
+            throw e;
+        }
+    }
+
+    private Permit acquire() {
+        if (!aiServiceCircuitBreaker.tryAcquirePermission()) {
+            circuitRejections.increment();
+            throw new AppException(AppErrorCode.AI_SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE,
+                    "AI service circuit is open");
+        }
+        AdaptiveConcurrencyLimiter.Listener listener = aiServiceLimiter.tryAcquire().orElse(null);
+        if (listener == null) {
+            aiServiceCircuitBreaker.releasePermission();
+            limitRejections.increment();
+            throw new AppException(AppErrorCode.AI_SERVICE_OVERLOADED, HttpStatus.SERVICE_UNAVAILABLE,
+                    "AI service concurrency limit reached");
+        }
+        return new Permit(listener, System.nanoTime());
+    }
+
+    /** A breaker permission and a limiter slot; the breaker outcome is recorded at most once. */
+    private class Permit {
+        private final AdaptiveConcurrencyLimiter.Listener listener;
+        private final long startNanos;
+        private boolean breakerRecorded;
+
+        private Permit(AdaptiveConcurrencyLimiter.Listener listener, long startNanos) {
+            this.listener = listener;
+            this.startNanos = startNanos;
+        }
+
+        void onSuccess() {
+            listener.onSuccess();
+            recordBreakerSuccess();
+        }
+
+        void onStreamCompleted() {
+            listener.onIgnore();
+            recordBreakerSuccess();
+        }
+
+        void onError(StatusRuntimeException e) {
+            if (AI_SERVICE_FAILURES.contains(e.getStatus().getCode())) {
+                listener.onDropped();
+            } else {
+                listener.onIgnore();
+            }
+            if (!breakerRecorded) {
+                breakerRecorded = true;
+                aiServiceCircuitBreaker.onError(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS, e);
+            }
+        }
+
+        void onIgnore() {
+            listener.onIgnore();
+            if (!breakerRecorded) {
+                breakerRecorded = true;
+                aiServiceCircuitBreaker.releasePermission();
+            }
+        }
+
+        void recordBreakerSuccess() {
+            if (!breakerRecorded) {
+                breakerRecorded = true;
+                aiServiceCircuitBreaker.onSuccess(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("essay.ai.calls.rejected")
+                .description("ai-service calls shed before being sent")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
 }
@@ -7,13 +7,21 @@ import com.phat.grpc.essay.EssayServiceGrpc;
 import com.phat.grpc.essay.GetEssayIdsResponse;
 import com.phat.grpc.essay.IsEssayIdExistRequest;
 import com.phat.grpc.essay.IsEssayIdExistResponse;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.common.Constants.GRPC_ID_CHUNK_SIZE;
+import static com.phat.common.Utils.sendInChunks;
 
 @Slf4j
 @GrpcService
@@ -21,26 +29,32 @@ import java.util.stream.Collectors;
 public class EssayGrpcService extends EssayServiceGrpc.EssayServiceImplBase {
 
     private final EssaySubmissionRepository essaySubmissionRepository;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public void getEssayIds(Empty request, StreamObserver<GetEssayIdsResponse> responseObserver) {
-        List<String> essayIds = essaySubmissionRepository.findAll()
-                .stream()
-                .map(EssaySubmission::getId)
-                .collect(Collectors.toList());
-
-        GetEssayIdsResponse response = GetEssayIdsResponse.newBuilder()
-                .addAllEssayIds(essayIds)
-                .build();
-
-        responseObserver.onNext(response);
-        responseObserver.onCompleted();
+        Query query = new Query(Criteria.where("is_deleted").ne(true)).cursorBatchSize(GRPC_ID_CHUNK_SIZE);
+        query.fields().include("_id");
+
+        try {
+            Stream<String> essayIds = mongoTemplate
+                    .stream(query, Document.class, mongoTemplate.getCollectionName(EssaySubmission.class))
+                    .map(document -> document.get("_id").toString());
+            sendInChunks(essayIds, GRPC_ID_CHUNK_SIZE,
+                    chunk -> GetEssayIdsResponse.newBuilder().addAllEssayIds(chunk).build(),
+                    responseObserver);
+        } catch (Exception e) {
+            log.error("[{}]: Streaming essay ids failed: {}", MICROSERVICE_NAME, e.getMessage());
+            responseObserver.onError(Status.INTERNAL
+                    .withDescription(String.format("[%s]: Get essay ids error: %s", MICROSERVICE_NAME, e.getMessage()))
+                    .asRuntimeException());
+        }
     }
 
     @Override
     public void isEssayIdExist(IsEssayIdExistRequest request, StreamObserver<IsEssayIdExistResponse> responseObserver) {
         String essayId = request.getEssayId();
-        boolean exists = essaySubmissionRepository.existsById(essayId);
+        boolean exists = essaySubmissionRepository.existsByIdAndIsDeletedNot(essayId, true);
 
         responseObserver.onNext(IsEssayIdExistResponse.newBuilder().setIsExist(exists).build());
         responseObserver.onCompleted();
@@ -0,0 +1,173 @@
+package com.phat.app.service.impl;
+
+import com.phat.api.model.request.EssaySearchRequest;
+import com.phat.api.model.response.EssaySearchHit;
+import com.phat.api.model.response.EssaySearchResponse;
+import com.phat.app.service.EssaySearchService;
+import com.phat.domain.enums.Visibility;
+import com.phat.domain.model.EssaySubmission;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.phat.common.Utils.getCurrentUser;
+import static org.springframework.web.util.HtmlUtils.htmlEscape;
+
+/**
+ * Full-text search over prompt and essay text backed by the {@code essay_text_search} text index
+ * (see {@link com.phat.infrastructure.component.MongoIndexManager}). Tokenizing and stemming are done by MongoDB;
+ * hits, total and facets come back from a single {@code $facet} aggregation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EssaySearchServiceImpl implements EssaySearchService {
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int STEM_PREFIX_LENGTH = 4;
+
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public EssaySearchResponse search(EssaySearchRequest request) {
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : 10;
+        Document textScore = new Document("$meta", "textScore");
+
+        List<Document> pipeline = List.of(
+                new Document("$match", toFilter(request)),
+                new Document("$facet", new Document()
+                        .append("hits", List.of(
+                                new Document("$sort", new Document("score", textScore).append("_id", -1)),
+                                new Document("$skip", (long) page * size),
+                                new Document("$limit", size),
+                                new Document("$project", new Document("promptText", 1)
+                                        .append("essayText", 1)
+                                        .append("band", 1)
+                                        .append("visibility", 1)
+                                        .append("created_at", 1)
+                                        .append("score", textScore))))
+                        .append("total", List.of(new Document("$count", "count")))
+                        .append("bands", List.of(new Document("$group", new Document("_id", new Document("$floor", "$band"))
+                                .append("count", new Document("$sum", 1)))))
+                        .append("visibility", List.of(new Document("$group", new Document("_id", "$visibility")
+                                .append("count", new Document("$sum", 1)))))));
+
+        Document result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(EssaySubmission.class))
+                .aggregate(pipeline)
+                .first();
+        if (result == null) {
+            result = new Document();
+        }
+
+        List<String> terms = toTerms(request.getQ());
+        List<EssaySearchHit> hits = result.getList("hits", Document.class, List.of()).stream()
+                .map(doc -> EssaySearchHit.builder()
+                        .id(doc.getObjectId("_id").toHexString())
+                        .promptText(doc.getString("promptText"))
+                        .snippet(toSnippet(doc.getString("essayText"), terms))
+                        .band(doc.get("band") instanceof Number band ? band.doubleValue() : null)
+                        .visibility(doc.getString("visibility") != null ? Visibility.valueOf(doc.getString("visibility")) : null)
+                        .createdAt(doc.getDate("created_at"))
+                        .score(doc.get("score") instanceof Number score ? score.doubleValue() : 0)
+                        .build())
+                .toList();
+
+        List<Document> total = result.getList("total", Document.class, List.of());
+        return EssaySearchResponse.builder()
+                .hits(hits)
+                .total(total.isEmpty() ? 0 : ((Number) total.get(0).get("count")).longValue())
+                .page(page)
+                .size(size)
+                .bandFacets(toFacet(result.getList("bands", Document.class, List.of()), key -> ((Number) key).doubleValue()))
+                .visibilityFacets(toFacet(result.getList("visibility", Document.class, List.of()), String::valueOf))
+                .build();
+    }
+
+    private Document toFilter(EssaySearchRequest request) {
+        List<Document> filters = new ArrayList<>();
+        filters.add(new Document("$text", new Document("$search", request.getQ())));
+        filters.add(new Document("is_deleted", new Document("$ne", true)));
+        // other users' private essays never show up in search
+        filters.add(new Document("$or", List.of(
+                new Document("visibility", Visibility.PUBLIC.name()),
+                new Document("created_by", getCurrentUser()))));
+        if (request.getVisibility() != null) {
+            filters.add(new Document("visibility", request.getVisibility().name()));
+        }
+        Document band = new Document();
+        if (request.getBandFrom() != null) {
+            band.append("$gte", request.getBandFrom());
+        }
+        if (request.getBandTo() != null) {
+            band.append("$lte", request.getBandTo());
+        }
+        if (!band.isEmpty()) {
+            filters.add(new Document("band", band));
+        }
+        // $text has to sit at the top level of the first $match
+        Document filter = filters.get(0);
+        return new Document(filter).append("$and", filters.subList(1, filters.size()));
+    }
+
+    private static <K> Map<K, Long> toFacet(List<Document> buckets, Function<Object, K> keyMapper) {
+        Map<K, Long> facet = new LinkedHashMap<>();
+        buckets.stream()
+                .filter(bucket -> bucket.get("_id") != null)
+                .sorted(Comparator.comparing(bucket -> String.valueOf(bucket.get("_id"))))
+                .forEach(bucket -> facet.put(keyMapper.apply(bucket.get("_id")), ((Number) bucket.get("count")).longValue()));
+        return facet;
+    }
+
+    private static List<String> toTerms(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> term.length() > 1)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Cuts a window around the first matched term and wraps every matched word in {@code <em>}.
+     * Terms are matched on a short prefix so stemmed matches ("arguments" for "argue") are highlighted too.
+     * The essay text is HTML-escaped, so the {@code <em>} tags are the only markup in the snippet.
+     */
+    static String toSnippet(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        if (terms.isEmpty()) {
+            return htmlEscape(abbreviate(text, 0));
+        }
+        String alternatives = String.join("|", terms.stream()
+                .map(term -> Pattern.quote(term.substring(0, Math.min(term.length(), STEM_PREFIX_LENGTH))))
+                .toList());
+        Pattern pattern = Pattern.compile("(?iu)\\b(?:" + alternatives + ")[\\p{L}\\p{N}]*");
+
+        Matcher first = pattern.matcher(text);
+        int start = first.find() ? Math.max(0, first.start() - SNIPPET_LENGTH / 4) : 0;
+        String window = abbreviate(text, start);
+        StringBuilder snippet = new StringBuilder(window.length() + 64);
+        Matcher match = pattern.matcher(window);
+        int last = 0;
+        while (match.find()) {
+            snippet.append(htmlEscape(window.substring(last, match.start())))
+                    .append("<em>").append(htmlEscape(match.group())).append("</em>");
+            last = match.end();
+        }
+        return snippet.append(htmlEscape(window.substring(last))).toString();
+    }
+
+    private static String abbreviate(String text, int start) {
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? "..." : "") + text.substring(start, end) + (end < text.length() ? "..." : "");
+    }
+}
@@ -4,17 +4,25 @@ import com.phat.api.model.request.ListEssayRequest;
 import com.phat.api.model.response.EssayResponseWrapper;
 import com.phat.api.model.response.EssaySaveResponse;
 import com.phat.api.model.response.EssayScoredResponse;
+import com.phat.api.model.response.CursorSlice;
 import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.common.event.EssayCreatedEvent;
+import com.phat.common.event.EssayDeletedEvent;
 import com.phat.common.response.InteractionCountResponse;
+import com.phat.common.response.ReactedInfo;
 import com.phat.common.response.UserInfo;
 import com.phat.common.service.IdentityServiceGrpcClient;
 import com.phat.domain.enums.Visibility;
 import com.phat.domain.irepository.EssaySubmissionRepository;
 import com.phat.domain.model.EssaySubmission;
 import com.phat.infrastructure.mapper.EssaySubmissionMapper;
+import io.grpc.Context;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -23,7 +31,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
 import static com.phat.common.Utils.getCurrentUser;
 
 @Slf4j
@@ -36,6 +50,16 @@ public class EssaySubmissionServiceImpl implements com.phat.app.service.EssaySub
     IdentityServiceGrpcClient identityServiceGrpcClient;
     InteractionServiceGrpcClient interactionServiceGrpcClient;
     MongoTemplate mongoTemplate;
+    ApplicationEventPublisher eventPublisher;
+    ExecutorService feedEnrichmentExecutor;
+
+    @NonFinal
+    @Value("${essay.feed.enrichment-timeout-ms:800}")
+    long feedEnrichmentTimeoutMs;
+
+    private static final InteractionCountResponse EMPTY_INTERACTION = InteractionCountResponse.builder()
+            .reactedInfo(ReactedInfo.builder().isReacted(false).build())
+            .build();
 
     @Transactional
     public EssaySubmission saveEssay(String essayText, String promptText, EssayResponseWrapper<EssayTaskTwoScoreResponse> essayTaskTwoScoreResponse, Visibility visibility) throws Exception {
@@ -50,13 +74,15 @@ public class EssaySubmissionServiceImpl implements com.phat.app.service.EssaySub
 
         Double band = Math.floor(overallBand);
 
-        return essaySubmissionRepository.save(EssaySubmission.builder()
+        EssaySubmission saved = essaySubmissionRepository.save(EssaySubmission.builder()
                 .essayText(essayText)
                 .promptText(promptText)
                 .band(band)
                 .visibility(visibility)
                 .essayTaskTwoScoreResponse(essayTaskTwoScoreResponse)
                 .build());
+        eventPublisher.publishEvent(new EssayCreatedEvent(saved.getId()));
+        return saved;
     }
 
     @Override
@@ -66,6 +92,7 @@ public class EssaySubmissionServiceImpl implements com.phat.app.service.EssaySub
         submission.softDelete();
 
         essaySubmissionRepository.save(submission);
+        eventPublisher.publishEvent(new EssayDeletedEvent(id));
     }
 
     @Override
@@ -75,17 +102,39 @@ public class EssaySubmissionServiceImpl implements com.phat.app.service.EssaySub
     }
 
     @Override
-    public Page<EssayScoredResponse> findAllEssays(ListEssayRequest listEssayRequest) throws Exception {
+    public Slice<EssayScoredResponse> findAllEssays(ListEssayRequest listEssayRequest) throws Exception {
         Criteria criteria = listEssayRequest.toCriteria();
+        if (listEssayRequest.isCursorMode()) {
+            List<EssaySubmission> essaySubmissions = mongoTemplate.find(
+                    listEssayRequest.toCursorQuery(criteria), EssaySubmission.class);
+            CursorSlice<EssaySubmission> slice = listEssayRequest.toCursorSlice(essaySubmissions);
+            return new CursorSlice<>(toEssayScoredResponses(slice.getContent()), slice.getSize(), slice.getNextCursor());
+        }
+
         Query baseQuery = new Query(criteria);
         long count = mongoTemplate.count(baseQuery, EssaySubmission.class);
 
         Query query = new Query(criteria).with(listEssayRequest.toPageable());
         List<EssaySubmission> essaySubmissions = mongoTemplate.find(query, EssaySubmission.class);
-        List<EssayScoredResponse> responses = essaySubmissions.stream()
+        return new PageImpl<>(toEssayScoredResponses(essaySubmissions), listEssayRequest.toPageable(), count);
+    }
+
+    private List<EssayScoredResponse> toEssayScoredResponses(List<EssaySubmission> essaySubmissions) {
+        List<String> userIds = essaySubmissions.stream().map(EssaySubmission::getCreatedBy).toList();
+        List<String> essayIds = essaySubmissions.stream().map(EssaySubmission::getId).toList();
+
+        // Both lookups run concurrently under one page deadline; whatever is late or fails falls back to defaults.
+        CompletableFuture<Map<String, UserInfo>> userInfosFuture = enrich(
+                () -> identityServiceGrpcClient.getUserInfos(userIds), "user infos");
+        CompletableFuture<Map<String, InteractionCountResponse>> interactionsFuture = enrich(
+                () -> interactionServiceGrpcClient.getInteractionCounts(essayIds), "interaction counts");
+        Map<String, UserInfo> userInfos = userInfosFuture.join();
+        Map<String, InteractionCountResponse> interactions = interactionsFuture.join();
+        return essaySubmissions.stream()
                 .map(submission -> {
-                    UserInfo userInfo = identityServiceGrpcClient.getUserInfo(submission.getCreatedBy());
-                    InteractionCountResponse interaction = interactionServiceGrpcClient.getInteractionCount(submission.getId());
+                    UserInfo userInfo = userInfos.getOrDefault(submission.getCreatedBy(),
+                            UserInfo.placeholder(submission.getCreatedBy()));
+                    InteractionCountResponse interaction = interactions.getOrDefault(submission.getId(), EMPTY_INTERACTION);
 
                     return EssayScoredResponse.builder()
                             .id(submission.getId())
@@ -101,7 +150,19 @@ public class EssaySubmissionServiceImpl implements com.phat.app.service.EssaySub
                             .build();
                 })
                 .toList();
-        return new PageImpl<>(responses, listEssayRequest.toPageable(), count);
+    }
+
+    private <T> CompletableFuture<Map<String, T>> enrich(Supplier<Map<String, T>> lookup, String name) {
+        // Carry the request's gRPC context so the lookups keep its deadline and are cancelled with it. The lookup
+        // gets its own child context, cancelled once the page stops waiting, so a late lookup's calls are abandoned.
+        Context.CancellableContext lookupContext = Context.current().withCancellation();
+        return CompletableFuture.supplyAsync(lookup, lookupContext.fixedContextExecutor(feedEnrichmentExecutor))
+                .completeOnTimeout(Map.of(), feedEnrichmentTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> lookupContext.cancel(null))
+                .exceptionally(e -> {
+                    log.warn("[{}]: Could not load {} for essay feed, using defaults: {}", MICROSERVICE_NAME, name, e.getMessage());
+                    return Map.of();
+                });
     }
 
 }
@@ -3,16 +3,18 @@ package com.phat.app.service.impl;
 import com.phat.common.exception.AppErrorCode;
 import com.phat.common.exception.AppException;
 import com.phat.common.response.InteractionCountResponse;
-import com.phat.grpc.interaction.GetInteractionCountRequest;
-import com.phat.grpc.interaction.GetInteractionCountResponse;
-import com.phat.grpc.interaction.InteractionServiceGrpc;
-import com.phat.grpc.interaction.ReactedInfo;
+import com.phat.grpc.interaction.*;
 import io.grpc.Context;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
 import static com.phat.common.Utils.getCurrentUser;
 
 @Service
@@ -33,29 +35,55 @@ public class InteractionServiceGrpcClient {
 
             GetInteractionCountResponse response = stub.getInteractionCount(request);
 
-            ReactedInfo reactedInfo = response.getReactedInfo();
-            return InteractionCountResponse.builder()
-                    .reactionCount(response.getReactionCount())
-                    .commentCount(response.getCommentCount())
-                    .reactedInfo(com.phat.common.response.ReactedInfo.builder()
-                            .isReacted(reactedInfo.getIsReacted())
-                            .reactionId(
-                                    reactedInfo.getIsReacted()
-                                            ? reactedInfo.getReactionId()
-                                            : null
-                            )
-                            .reactionType(
-                                    reactedInfo.getIsReacted()
-                                            ? reactedInfo.getReactionType()
-                                            : null
-                            )
-                            .build()
-                    )
+            return toInteractionCountResponse(response);
+        } catch (Exception e) {
+            log.error("gRPC Error: {}", e.getMessage(), e);
+            throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST, "gRPC request failed", e);
+        }
+    }
+
+    public Map<String, InteractionCountResponse> getInteractionCounts(Collection<String> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            GetInteractionCountsRequest request = GetInteractionCountsRequest.newBuilder()
+                    .addAllTargetIds(new LinkedHashSet<>(targetIds))
+                    .setCurrentUserId(getCurrentUser())
                     .build();
+
+            GetInteractionCountsResponse response = stub.getInteractionCounts(request);
+
+            Map<String, InteractionCountResponse> result = new HashMap<>();
+            response.getInteractionCountsMap()
+                    .forEach((targetId, counts) -> result.put(targetId, toInteractionCountResponse(counts)));
+            return result;
         } catch (Exception e) {
             log.error("gRPC Error: {}", e.getMessage(), e);
             throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST, "gRPC request failed", e);
         }
     }
 
+    private InteractionCountResponse toInteractionCountResponse(GetInteractionCountResponse response) {
+        ReactedInfo reactedInfo = response.getReactedInfo();
+        return InteractionCountResponse.builder()
+                .reactionCount(response.getReactionCount())
+                .commentCount(response.getCommentCount())
+                .reactedInfo(com.phat.common.response.ReactedInfo.builder()
+                        .isReacted(reactedInfo.getIsReacted())
+                        .reactionId(
+                                reactedInfo.getIsReacted()
+                                        ? reactedInfo.getReactionId()
+                                        : null
+                        )
+                        .reactionType(
+                                reactedInfo.getIsReacted()
+                                        ? reactedInfo.getReactionType()
+                                        : null
+                        )
+                        .build()
+                )
+                .build();
+    }
+
 }
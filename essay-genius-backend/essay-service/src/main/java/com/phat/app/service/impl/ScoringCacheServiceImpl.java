@@ -0,0 +1,176 @@
+package com.phat.app.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phat.api.model.response.EssayResponseWrapper;
+import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.app.service.ScoringCacheService;
+import com.phat.domain.irepository.ScoringCacheRepository;
+import com.phat.domain.model.ScoringCacheEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Two-tier cache of AI scoring results: Redis in front, {@code scoring_cache} in Mongo behind it.
+ * Keys are the SHA-256 of the normalized prompt and essay, so resubmitting an essay that only differs
+ * in whitespace or line endings reuses the previous score. Case and punctuation are kept, since the
+ * score depends on them.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class ScoringCacheServiceImpl implements ScoringCacheService {
+    private static final String REDIS_KEY_PREFIX = "scoring:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    StringRedisTemplate stringRedisTemplate;
+    ScoringCacheRepository scoringCacheRepository;
+    ObjectMapper objectMapper;
+    Counter redisHits;
+    Counter mongoHits;
+    Counter misses;
+
+    @NonFinal
+    @Value("${essay.scoring.cache.enabled:true}")
+    boolean enabled;
+
+    @NonFinal
+    @Value("${essay.scoring.cache.redis-ttl:P1D}")
+    Duration redisTtl;
+
+    public ScoringCacheServiceImpl(StringRedisTemplate stringRedisTemplate,
+                                   ScoringCacheRepository scoringCacheRepository,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.scoringCacheRepository = scoringCacheRepository;
+        this.objectMapper = objectMapper;
+        this.redisHits = lookupCounter(meterRegistry, "hit", "redis");
+        this.mongoHits = lookupCounter(meterRegistry, "hit", "mongo");
+        this.misses = lookupCounter(meterRegistry, "miss", "none");
+    }
+
+    @Override
+    public Optional<EssayResponseWrapper<?>> get(String essayPrompt, String essayText) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String hash = hash(essayPrompt, essayText);
+
+        ScoringCacheEntry entry = readRedis(hash);
+        if (entry != null) {
+            redisHits.increment();
+            return Optional.of(toResponse(entry));
+        }
+
+        entry = scoringCacheRepository.findById(hash).orElse(null);
+        if (entry != null) {
+            mongoHits.increment();
+            writeRedis(entry);
+            return Optional.of(toResponse(entry));
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String essayPrompt, String essayText, EssayResponseWrapper<?> response) {
+        if (!enabled) {
+            return;
+        }
+        ScoringCacheEntry entry = ScoringCacheEntry.builder()
+                .hash(hash(essayPrompt, essayText))
+                .valid(response.isValid())
+                .build();
+        if (response.isValid() && response.getResult() instanceof EssayTaskTwoScoreResponse score) {
+            entry.setResult(score);
+        } else {
+            entry.setMessage(String.valueOf(response.getResult()));
+        }
+
+        try {
+            scoringCacheRepository.save(entry);
+        } catch (RuntimeException e) {
+            log.warn("[{}]: Failed to store scoring result {}", MICROSERVICE_NAME, entry.getHash(), e);
+        }
+        writeRedis(entry);
+    }
+
+    private ScoringCacheEntry readRedis(String hash) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(REDIS_KEY_PREFIX + hash);
+            return json != null ? objectMapper.readValue(json, ScoringCacheEntry.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[{}]: Failed to read cached scoring result {}", MICROSERVICE_NAME, hash, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(ScoringCacheEntry entry) {
+        try {
+            stringRedisTemplate.opsForValue().set(REDIS_KEY_PREFIX + entry.getHash(),
+                    objectMapper.writeValueAsString(entry), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[{}]: Failed to cache scoring result {}", MICROSERVICE_NAME, entry.getHash(), e);
+        }
+    }
+
+    private static EssayResponseWrapper<?> toResponse(ScoringCacheEntry entry) {
+        if (entry.isValid()) {
+            return EssayResponseWrapper.<EssayTaskTwoScoreResponse>builder()
+                    .valid(true)
+                    .result(entry.getResult())
+                    .build();
+        }
+        return EssayResponseWrapper.<String>builder()
+                .valid(false)
+                .result(entry.getMessage())
+                .build();
+    }
+
+    static String hash(String essayPrompt, String essayText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(normalize(essayPrompt).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(essayText).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("essay.scoring.cache")
+                .description("AI scoring cache lookups")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,271 @@
+package com.phat.app.service.impl;
+
+import com.phat.api.model.request.ScoringJobRequest;
+import com.phat.api.model.response.EssayResponseWrapper;
+import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.api.model.response.ScoringJobResponse;
+import com.phat.app.service.EssaySubmissionService;
+import com.phat.app.service.ScoringJobService;
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.exception.AppException;
+import com.phat.domain.enums.ScoringJobStatus;
+import com.phat.domain.enums.Visibility;
+import com.phat.domain.irepository.ScoringJobRepository;
+import com.phat.domain.model.EssaySubmission;
+import com.phat.domain.model.ScoringJob;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.phat.app.helper.Constants.*;
+import static com.phat.common.Utils.getCurrentUser;
+import static com.phat.common.Utils.mockSecurityContext;
+import static com.phat.common.exception.AppErrorCode.AI_SERVICE_OVERLOADED;
+import static com.phat.common.exception.AppErrorCode.AI_SERVICE_UNAVAILABLE;
+import static com.phat.common.exception.AppErrorCode.SCORING_JOB_NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Scores essays off the request thread. Submissions are stored in {@code scoring_jobs} and their ids
+ * queued on {@code SCORING_JOBS}; workers call the AI service and save the essay. Every status change
+ * is announced on {@code SCORING_JOB_UPDATES} so the instance holding a client's SSE stream can push it.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class ScoringJobServiceImpl implements ScoringJobService {
+    ScoringJobRepository scoringJobRepository;
+    AIGrpcClient aiGrpcClient;
+    EssaySubmissionService essaySubmissionService;
+    KafkaTemplate<String, String> scoringKafkaTemplate;
+    MongoTemplate mongoTemplate;
+    Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @NonFinal
+    @Value("${essay.scoring.sse-timeout:PT2M}")
+    Duration sseTimeout;
+
+    @NonFinal
+    @Value("${essay.scoring.max-processing-time:PT5M}")
+    Duration maxProcessingTime;
+
+    public ScoringJobServiceImpl(ScoringJobRepository scoringJobRepository,
+                                 AIGrpcClient aiGrpcClient,
+                                 EssaySubmissionService essaySubmissionService,
+                                 KafkaFactory<String> scoringKafkaFactory,
+                                 MongoTemplate mongoTemplate) {
+        this.scoringJobRepository = scoringJobRepository;
+        this.aiGrpcClient = aiGrpcClient;
+        this.essaySubmissionService = essaySubmissionService;
+        this.scoringKafkaTemplate = new KafkaTemplate<>(
+                scoringKafkaFactory.createProducerFactory(StringSerializer.class, Map.of()));
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public ScoringJobResponse submit(ScoringJobRequest request) {
+        ScoringJob job = scoringJobRepository.save(ScoringJob.builder()
+                .userId(getCurrentUser())
+                .essayPrompt(request.essayPrompt())
+                .essayText(request.essayText())
+                .visibility(request.visibility() != null
+                        ? Visibility.fromValue(request.visibility())
+                        : Visibility.PRIVATE)
+                .build());
+
+        scoringKafkaTemplate.send(KAFKA_TOPIC_SCORING_JOBS, job.getId(), job.getId())
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[{}]: Failed to queue scoring job {}", MICROSERVICE_NAME, job.getId(), ex);
+                        job.setStatus(ScoringJobStatus.FAILED);
+                        job.setMessage("Scoring job could not be queued");
+                        scoringJobRepository.save(job);
+                    }
+                });
+        return toResponse(job);
+    }
+
+    @Override
+    public ScoringJobResponse findJobById(String jobId) {
+        return toResponse(findOwnedJob(jobId));
+    }
+
+    @Override
+    public SseEmitter subscribe(String jobId) {
+        ScoringJob job = findOwnedJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        if (job.getStatus().isTerminal()) {
+            send(emitter, job);
+            emitter.complete();
+            return emitter;
+        }
+
+        List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        jobEmitters.add(emitter);
+        emitter.onCompletion(() -> removeEmitter(jobId, emitter));
+        emitter.onTimeout(() -> removeEmitter(jobId, emitter));
+        emitter.onError(e -> removeEmitter(jobId, emitter));
+
+        // the job may have finished between the lookup and the registration
+        onJobUpdated(jobId);
+        return emitter;
+    }
+
+    @Override
+    public void process(String jobId) {
+        ScoringJob job = claim(jobId);
+        if (job == null) {
+            log.debug("[{}]: Scoring job {} is gone, done or being scored elsewhere, skipping", MICROSERVICE_NAME, jobId);
+            return;
+        }
+        publishUpdate(job);
+
+        try {
+            EssayResponseWrapper<?> response = aiGrpcClient.getScores(job.getEssayPrompt(), job.getEssayText());
+            if (response.isValid() && response.getResult() instanceof EssayTaskTwoScoreResponse score) {
+                job.setValid(true);
+                job.setResult(score);
+                job.setEssayId(saveEssay(job, score).getId());
+            } else {
+                job.setValid(false);
+                job.setMessage(String.valueOf(response.getResult()));
+            }
+            job.setStatus(ScoringJobStatus.COMPLETED);
+        } catch (AppException e) {
+            if (isShed(e)) {
+                // ai-service is shedding load: keep the job queued, the listener backs off and redelivers it
+                job.setStatus(ScoringJobStatus.PENDING);
+                publishUpdate(scoringJobRepository.save(job));
+                throw e;
+            }
+            fail(job, e);
+        } catch (Exception e) {
+            fail(job, e);
+        }
+        publishUpdate(scoringJobRepository.save(job));
+    }
+
+    /**
+     * Moves the job to RUNNING unless it is done or another worker is scoring it, so a redelivered record does not
+     * call ai-service twice. A job left RUNNING longer than {@code essay.scoring.max-processing-time} is taken over:
+     * its worker died, or lost the partition after overrunning the poll interval, which is set to the same time.
+     */
+    private ScoringJob claim(String jobId) {
+        Date now = new Date();
+        Query query = new Query(Criteria.where("id").is(jobId).orOperator(
+                Criteria.where("status").is(ScoringJobStatus.PENDING),
+                Criteria.where("status").is(ScoringJobStatus.RUNNING)
+                        .and("updated_at").lt(new Date(now.getTime() - maxProcessingTime.toMillis()))));
+        Update update = new Update().set("status", ScoringJobStatus.RUNNING).set("updated_at", now);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), ScoringJob.class);
+    }
+
+    private void fail(ScoringJob job, Exception e) {
+        log.error("[{}]: Scoring job {} failed", MICROSERVICE_NAME, job.getId(), e);
+        job.setStatus(ScoringJobStatus.FAILED);
+        job.setMessage(e.getMessage());
+    }
+
+    /**
+     * Rejected by the concurrency limit or the open circuit before reaching ai-service, so worth retrying.
+     */
+    private static boolean isShed(AppException e) {
+        return e.getAppErrorCode() == AI_SERVICE_OVERLOADED || e.getAppErrorCode() == AI_SERVICE_UNAVAILABLE;
+    }
+
+    @Override
+    public void onJobUpdated(String jobId) {
+        List<SseEmitter> jobEmitters = emitters.get(jobId);
+        if (jobEmitters == null || jobEmitters.isEmpty()) {
+            return;
+        }
+        scoringJobRepository.findById(jobId).ifPresent(job -> jobEmitters.forEach(emitter -> {
+            send(emitter, job);
+            if (job.getStatus().isTerminal()) {
+                emitter.complete();
+            }
+        }));
+    }
+
+    /**
+     * Saves the essay as the job's owner so the audit fields match a synchronous save.
+     */
+    private EssaySubmission saveEssay(ScoringJob job, EssayTaskTwoScoreResponse score) throws Exception {
+        mockSecurityContext(job.getUserId());
+        try {
+            return essaySubmissionService.saveEssay(job.getEssayText(), job.getEssayPrompt(),
+                    EssayResponseWrapper.<EssayTaskTwoScoreResponse>builder()
+                            .valid(true)
+                            .result(score)
+                            .build(),
+                    job.getVisibility());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private ScoringJob findOwnedJob(String jobId) {
+        return scoringJobRepository.findById(jobId)
+                .filter(job -> job.getUserId().equals(getCurrentUser()))
+                .orElseThrow(() -> new AppException(SCORING_JOB_NOT_FOUND, NOT_FOUND, "Scoring job not found with id: " + jobId));
+    }
+
+    private void publishUpdate(ScoringJob job) {
+        scoringKafkaTemplate.send(KAFKA_TOPIC_SCORING_JOB_UPDATES, job.getId(), job.getStatus().name())
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("[{}]: Failed to publish update of scoring job {}", MICROSERVICE_NAME, job.getId(), ex);
+                    }
+                });
+    }
+
+    private void send(SseEmitter emitter, ScoringJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(job.getStatus().name())
+                    .name("status")
+                    .data(toResponse(job)));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void removeEmitter(String jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, jobEmitters) -> {
+            jobEmitters.remove(emitter);
+            return jobEmitters.isEmpty() ? null : jobEmitters;
+        });
+    }
+
+    private ScoringJobResponse toResponse(ScoringJob job) {
+        return ScoringJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .valid(job.getValid())
+                .result(job.getResult())
+                .message(job.getMessage())
+                .essayId(job.getEssayId())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
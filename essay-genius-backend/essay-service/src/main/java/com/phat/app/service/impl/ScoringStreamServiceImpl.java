@@ -0,0 +1,169 @@
+package com.phat.app.service.impl;
+
+import com.phat.api.model.request.ScoringJobRequest;
+import com.phat.api.model.response.EssayResponseWrapper;
+import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.api.model.response.ScoringStreamResult;
+import com.phat.app.service.EssaySubmissionService;
+import com.phat.app.service.ScoringCacheService;
+import com.phat.app.service.ScoringStreamService;
+import com.phat.domain.enums.Visibility;
+import com.phat.grpc.ai.ScoringEvent;
+import com.phat.infrastructure.mapper.EssayScoreMapper;
+import io.grpc.Context;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Relays {@code AIService.ScoringStream} to the browser over SSE. Each criterion, correction and tip is
+ * forwarded as soon as the model produces it ({@code criterion}, {@code correction}, {@code tip} events);
+ * the assembled result is then cached, saved through {@code saveEssay} and sent as a final {@code result}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+@Service
+public class ScoringStreamServiceImpl implements ScoringStreamService {
+    AIGrpcClient aiGrpcClient;
+    ScoringCacheService scoringCacheService;
+    EssaySubmissionService essaySubmissionService;
+    EssayScoreMapper essayScoreMapper;
+    ExecutorService scoringStreamExecutor;
+
+    @NonFinal
+    @Value("${essay.scoring.sse-timeout:PT2M}")
+    Duration sseTimeout;
+
+    @Override
+    public SseEmitter stream(ScoringJobRequest request) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        Visibility visibility = request.visibility() != null
+                ? Visibility.fromValue(request.visibility())
+                : Visibility.PRIVATE;
+        scoringStreamExecutor.execute(() -> relay(request.essayPrompt(), request.essayText(), visibility, emitter));
+        return emitter;
+    }
+
+    private void relay(String essayPrompt, String essayText, Visibility visibility, SseEmitter emitter) {
+        Context.CancellableContext context = Context.current().withCancellation();
+        emitter.onCompletion(() -> context.cancel(null));
+        emitter.onTimeout(() -> context.cancel(null));
+        try {
+            EssayResponseWrapper<?> response = context.call(() -> {
+                Optional<EssayResponseWrapper<?>> cached = scoringCacheService.get(essayPrompt, essayText);
+                return cached.isPresent()
+                        ? cached.get()
+                        : aiGrpcClient.streamScores(essayPrompt, essayText,
+                                events -> relayEvents(essayPrompt, essayText, events, emitter));
+            });
+
+            String essayId = null;
+            if (response.isValid() && response.getResult() instanceof EssayTaskTwoScoreResponse score) {
+                essayId = essaySubmissionService.saveEssay(essayText, essayPrompt,
+                        EssayResponseWrapper.<EssayTaskTwoScoreResponse>builder()
+                                .valid(true)
+                                .result(score)
+                                .build(),
+                        visibility).getId();
+            }
+            emitter.send(SseEmitter.event()
+                    .name("result")
+                    .data(ScoringStreamResult.builder()
+                            .response(response)
+                            .essayId(essayId)
+                            .build()));
+            emitter.complete();
+        } catch (IOException e) {
+            log.debug("[{}]: Scoring stream client went away", MICROSERVICE_NAME);
+            context.cancel(e);
+        } catch (Exception e) {
+            log.error("[{}]: Scoring stream failed", MICROSERVICE_NAME, e);
+            context.cancel(e);
+            emitter.completeWithError(e);
+        } finally {
+            context.close();
+        }
+    }
+
+    private EssayResponseWrapper<?> relayEvents(String essayPrompt, String essayText,
+                                                Iterator<ScoringEvent> events, SseEmitter emitter)
+            throws IOException {
+        EssayTaskTwoScoreResponse score = EssayTaskTwoScoreResponse.builder()
+                .scores(new EssayTaskTwoScoreResponse.Scores())
+                .corrections(new ArrayList<>())
+                .improvementTips(new ArrayList<>())
+                .build();
+
+        while (events.hasNext()) {
+            ScoringEvent event = events.next();
+            switch (event.getEventCase()) {
+                case CRITERION -> {
+                    EssayTaskTwoScoreResponse.ScoreDetail detail =
+                            essayScoreMapper.toScoreDetail(event.getCriterion().getDetail());
+                    setCriterion(score.getScores(), event.getCriterion().getCriterion(), detail);
+                    emitter.send(SseEmitter.event()
+                            .name("criterion")
+                            .data(Map.of("criterion", event.getCriterion().getCriterion(), "detail", detail)));
+                }
+                case CORRECTION -> {
+                    EssayTaskTwoScoreResponse.Correction correction =
+                            essayScoreMapper.toCorrection(event.getCorrection());
+                    score.getCorrections().add(correction);
+                    emitter.send(SseEmitter.event().name("correction").data(correction));
+                }
+                case IMPROVEMENT_TIP -> {
+                    score.getImprovementTips().add(event.getImprovementTip());
+                    emitter.send(SseEmitter.event().name("tip").data(event.getImprovementTip()));
+                }
+                case SUMMARY -> {
+                    score.setOverallBand(event.getSummary().getOverallBand());
+                    score.setOverallFeedback(event.getSummary().getOverallFeedback());
+                    score.setRewrittenParagraph(event.getSummary().getRewrittenParagraph());
+                    EssayResponseWrapper<EssayTaskTwoScoreResponse> response =
+                            EssayResponseWrapper.<EssayTaskTwoScoreResponse>builder()
+                                    .valid(true)
+                                    .result(score)
+                                    .build();
+                    scoringCacheService.put(essayPrompt, essayText, response);
+                    return response;
+                }
+                case INVALID_REASON -> {
+                    EssayResponseWrapper<String> response = EssayResponseWrapper.<String>builder()
+                            .valid(false)
+                            .result(event.getInvalidReason())
+                            .build();
+                    scoringCacheService.put(essayPrompt, essayText, response);
+                    return response;
+                }
+                default -> log.warn("[{}]: Ignoring unknown scoring event {}", MICROSERVICE_NAME, event.getEventCase());
+            }
+        }
+        throw new IllegalStateException("Scoring stream ended without a result");
+    }
+
+    private static void setCriterion(EssayTaskTwoScoreResponse.Scores scores, String criterion,
+                                     EssayTaskTwoScoreResponse.ScoreDetail detail) {
+        switch (criterion) {
+            case "task_response" -> scores.setTaskResponse(detail);
+            case "coherence_and_cohesion" -> scores.setCoherenceAndCohesion(detail);
+            case "lexical_resource" -> scores.setLexicalResource(detail);
+            case "grammatical_range_and_accuracy" -> scores.setGrammaticalRangeAndAccuracy(detail);
+            default -> log.warn("[{}]: Ignoring unknown criterion {}", MICROSERVICE_NAME, criterion);
+        }
+    }
+}
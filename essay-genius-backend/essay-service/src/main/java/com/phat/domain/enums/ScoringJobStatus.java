@@ -0,0 +1,12 @@
+package com.phat.domain.enums;
+
+public enum ScoringJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
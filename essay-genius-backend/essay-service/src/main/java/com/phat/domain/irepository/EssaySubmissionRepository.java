@@ -13,4 +13,6 @@ import org.springframework.stereotype.Repository;
 public interface EssaySubmissionRepository extends MongoRepository<EssaySubmission, String> {
     Page<EssaySubmission> findAllByIsDeletedAndCreatedBy(boolean isDeleted, String createdBy, Pageable pageable);
 
+    boolean existsByIdAndIsDeletedNot(String id, boolean isDeleted);
+
 }
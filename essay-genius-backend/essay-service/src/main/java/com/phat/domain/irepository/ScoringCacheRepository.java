@@ -0,0 +1,11 @@
+package com.phat.domain.irepository;
+
+import com.phat.domain.model.ScoringCacheEntry;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Observed
+public interface ScoringCacheRepository extends MongoRepository<ScoringCacheEntry, String> {
+}
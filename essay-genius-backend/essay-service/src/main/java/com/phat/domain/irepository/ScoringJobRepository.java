@@ -0,0 +1,11 @@
+package com.phat.domain.irepository;
+
+import com.phat.domain.model.ScoringJob;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Observed
+public interface ScoringJobRepository extends MongoRepository<ScoringJob, String> {
+}
@@ -25,7 +25,6 @@ public class EssaySubmission extends AbstractEntity {
     EssayResponseWrapper<EssayTaskTwoScoreResponse> essayTaskTwoScoreResponse;
     @Indexed
     String promptText;
-    @Indexed
     String essayText;
     @Indexed
     @Min(0)
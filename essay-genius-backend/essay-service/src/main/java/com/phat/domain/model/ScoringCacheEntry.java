@@ -0,0 +1,37 @@
+package com.phat.domain.model;
+
+import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+/**
+ * A scoring result addressed by the hash of its normalized prompt and essay text.
+ */
+@Document(collection = "scoring_cache")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScoringCacheEntry {
+    @Id
+    String hash;
+
+    boolean valid;
+
+    EssayTaskTwoScoreResponse result;
+
+    /** The AI's explanation when the essay was rejected. */
+    String message;
+
+    @CreatedDate
+    @Field("created_at")
+    Date createdAt;
+}
@@ -0,0 +1,60 @@
+package com.phat.domain.model;
+
+import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.domain.enums.ScoringJobStatus;
+import com.phat.domain.enums.Visibility;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+/**
+ * An essay waiting for, or done with, AI scoring. The owner is stored explicitly because jobs are
+ * updated from Kafka workers that run without the submitter's security context.
+ */
+@Document(collection = "scoring_jobs")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScoringJob {
+    @Id
+    String id;
+
+    @Field("user_id")
+    String userId;
+
+    String essayPrompt;
+
+    String essayText;
+
+    Visibility visibility;
+
+    @Builder.Default
+    ScoringJobStatus status = ScoringJobStatus.PENDING;
+
+    /** Whether the AI accepted the essay; {@code false} means {@link #message} holds its reason. */
+    Boolean valid;
+
+    EssayTaskTwoScoreResponse result;
+
+    String message;
+
+    /** Id of the saved essay submission once the job completed with a valid score. */
+    String essayId;
+
+    @CreatedDate
+    @Field("created_at")
+    Date createdAt;
+
+    @LastModifiedDate
+    @Field("updated_at")
+    Date updatedAt;
+}
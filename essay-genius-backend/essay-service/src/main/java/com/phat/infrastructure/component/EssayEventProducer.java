@@ -0,0 +1,56 @@
+package com.phat.infrastructure.component;
+
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.configs.KafkaProperty;
+import com.phat.common.event.EssayCreatedEvent;
+import com.phat.common.event.EssayDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.common.Constants.KAFKA_TOPIC_ESSAY_CREATED;
+import static com.phat.common.Constants.KAFKA_TOPIC_ESSAY_DELETED;
+
+/**
+ * Announces essay creation and deletion so interaction-service can validate essay ids locally.
+ * Records are keyed by essay id.
+ */
+@Slf4j
+@Component
+public class EssayEventProducer {
+
+    private final KafkaTemplate<String, String> essayEventKafkaTemplate;
+
+    public EssayEventProducer(KafkaProperties kafkaProperties) {
+        KafkaFactory<String> kafkaFactory = KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+        this.essayEventKafkaTemplate = new KafkaTemplate<>(
+                kafkaFactory.createProducerFactory(StringSerializer.class, Map.of()));
+    }
+
+    @EventListener
+    public void onEssayCreated(EssayCreatedEvent event) {
+        send(KAFKA_TOPIC_ESSAY_CREATED, event.essayId());
+    }
+
+    @EventListener
+    public void onEssayDeleted(EssayDeletedEvent event) {
+        send(KAFKA_TOPIC_ESSAY_DELETED, event.essayId());
+    }
+
+    private void send(String topic, String essayId) {
+        essayEventKafkaTemplate.send(topic, essayId, essayId)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[{}]: Failed to publish {} for essay {}", MICROSERVICE_NAME, topic, essayId, ex);
+                    }
+                });
+    }
+}
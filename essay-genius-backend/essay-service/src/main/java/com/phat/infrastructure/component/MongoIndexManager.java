@@ -0,0 +1,141 @@
+package com.phat.infrastructure.component;
+
+import com.phat.api.model.request.ListEssayRequest;
+import com.phat.common.components.MongoQueryVerifier;
+import com.phat.domain.enums.Visibility;
+import com.phat.domain.model.EssaySubmission;
+import com.phat.domain.model.ScoringCacheEntry;
+import com.phat.domain.model.ScoringJob;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Declares the indexes backing the essay queries, drops the ones that only cost writes,
+ * and checks with {@code explain()} that the queries the listing endpoints build are served by an index.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MongoIndexManager {
+
+    public static final String ESSAY_TEXT_INDEX = "essay_text_search";
+
+    /** Multi-kilobyte B-tree on the essay body, never used for lookups. */
+    private static final Set<String> OBSOLETE_ESSAY_INDEXES = Set.of("essayText");
+
+    MongoTemplate mongoTemplate;
+
+    MongoQueryVerifier queryVerifier;
+
+    @NonFinal
+    @Value("${mongo.indexes.verify-on-startup:true}")
+    boolean verifyOnStartup;
+
+    @NonFinal
+    @Value("${essay.scoring.retention:P7D}")
+    Duration scoringJobRetention;
+
+    @NonFinal
+    @Value("${essay.scoring.cache.retention:P30D}")
+    Duration scoringCacheRetention;
+
+    public MongoIndexManager(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryVerifier = new MongoQueryVerifier(mongoTemplate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        IndexOperations essayIndexes = mongoTemplate.indexOps(EssaySubmission.class);
+
+        essayIndexes.getIndexInfo().stream()
+                .filter(info -> OBSOLETE_ESSAY_INDEXES.contains(info.getName()))
+                .forEach(info -> {
+                    essayIndexes.dropIndex(info.getName());
+                    log.info("[{}]: Dropped index {}", MICROSERVICE_NAME, info.getName());
+                });
+
+        // public feed: visibility + is_deleted filter, newest first, _id as keyset tie-breaker
+        essayIndexes.ensureIndex(new Index()
+                .on("visibility", Sort.Direction.ASC)
+                .on("is_deleted", Sort.Direction.ASC)
+                .on("created_at", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("visibility_deleted_created"));
+        // "my essays" and per-author listings
+        essayIndexes.ensureIndex(new Index()
+                .on("created_by", Sort.Direction.ASC)
+                .on("is_deleted", Sort.Direction.ASC)
+                .on("created_at", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("created_by_deleted_created"));
+        essayIndexes.ensureIndex(new Index().on("band", Sort.Direction.ASC).named("band"));
+        essayIndexes.ensureIndex(new Index().on("promptText", Sort.Direction.ASC).named("promptText"));
+        essayIndexes.ensureIndex(TextIndexDefinition.builder()
+                .onField("promptText", 3F)
+                .onField("essayText")
+                .named(ESSAY_TEXT_INDEX)
+                .build());
+
+        // finished jobs only need to outlive the client's polling
+        mongoTemplate.indexOps(ScoringJob.class).ensureIndex(new Index()
+                .on("created_at", Sort.Direction.ASC)
+                .expire(scoringJobRetention)
+                .named("created_at_ttl"));
+        mongoTemplate.indexOps(ScoringCacheEntry.class).ensureIndex(new Index()
+                .on("created_at", Sort.Direction.ASC)
+                .expire(scoringCacheRetention)
+                .named("created_at_ttl"));
+
+        if (verifyOnStartup) {
+            verifyListQueries("public feed", feedRequest());
+            ListEssayRequest byAuthor = feedRequest();
+            byAuthor.setVisibility(null);
+            byAuthor.setOwnByCurrentUser(true);
+            verifyListQueries("essays by author", byAuthor);
+            ListEssayRequest byBand = feedRequest();
+            byBand.setBandFrom(5.0);
+            byBand.setBandTo(7.0);
+            verifyListQueries("public feed by band", byBand);
+            ListEssayRequest byPrompt = feedRequest();
+            byPrompt.setPromptText("Some people");
+            verifyListQueries("public feed by prompt", byPrompt);
+        }
+    }
+
+    private static ListEssayRequest feedRequest() {
+        ListEssayRequest request = new ListEssayRequest();
+        request.setVisibility(Visibility.PUBLIC);
+        request.setIsDeleted(false);
+        return request;
+    }
+
+    /**
+     * Explains both queries {@code findAllEssays} runs for the request: the keyset slice and the offset page.
+     */
+    private void verifyListQueries(String name, ListEssayRequest request) {
+        Criteria criteria = request.toCriteria();
+        request.setCursor("");
+        queryVerifier.verify(name + " (cursor)", request.toCursorQuery(criteria), EssaySubmission.class);
+        request.setCursor(null);
+        queryVerifier.verify(name + " (page)", new Query(criteria).with(request.toPageable()), EssaySubmission.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.phat.infrastructure.component;
+
+import com.phat.app.service.ScoringJobService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SCORING_JOBS;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SCORING_JOB_UPDATES;
+
+/**
+ * Scoring workers and the job update relay. Records on both topics are keyed by job id.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ScoringJobConsumer {
+
+    ScoringJobService scoringJobService;
+
+    @KafkaListener(topics = KAFKA_TOPIC_SCORING_JOBS, containerFactory = "scoringJobContainerFactory")
+    public void onScoringJob(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        scoringJobService.process(record.key());
+        acknowledgment.acknowledge();
+    }
+
+    @KafkaListener(topics = KAFKA_TOPIC_SCORING_JOB_UPDATES, containerFactory = "scoringJobUpdateContainerFactory")
+    public void onScoringJobUpdated(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        scoringJobService.onJobUpdated(record.key());
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,81 @@
+package com.phat.infrastructure.configuration;
+
+import com.phat.common.components.AdaptiveConcurrencyLimiter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Load shedding for calls to ai-service: an adaptive concurrency limit in front of a circuit breaker.
+ */
+@Configuration
+public class AIServiceResilienceConfig {
+
+    /** Statuses that say the AI backend is unhealthy or overloaded, as opposed to a bad request. */
+    public static final Set<Status.Code> AI_SERVICE_FAILURES = Set.of(
+            Status.Code.UNAVAILABLE,
+            Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.INTERNAL,
+            Status.Code.UNKNOWN);
+
+    @Bean
+    public AdaptiveConcurrencyLimiter aiServiceLimiter(
+            @Value("${essay.ai.limiter.initial-limit:10}") int initialLimit,
+            @Value("${essay.ai.limiter.min-limit:1}") int minLimit,
+            @Value("${essay.ai.limiter.max-limit:50}") int maxLimit,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(initialLimit)
+                .minLimit(minLimit)
+                .maxLimit(maxLimit)
+                .build();
+
+        Gauge.builder("essay.ai.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit for ai-service calls")
+                .register(meterRegistry);
+        Gauge.builder("essay.ai.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("ai-service calls in flight")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public CircuitBreaker aiServiceCircuitBreaker(
+            @Value("${essay.ai.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${essay.ai.circuit-breaker.slow-call-duration:PT30S}") Duration slowCallDuration,
+            @Value("${essay.ai.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${essay.ai.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${essay.ai.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${essay.ai.circuit-breaker.wait-in-open-state:PT20S}") Duration waitInOpenState,
+            MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("ai-service", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(Math.max(1, minimumNumberOfCalls / 2))
+                .recordException(e -> e instanceof StatusRuntimeException statusException
+                        && AI_SERVICE_FAILURES.contains(statusException.getStatus().getCode()))
+                .build());
+
+        Gauge.builder("essay.ai.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+                .description("ai-service circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("essay.ai.circuit.failure.rate", circuitBreaker, cb -> cb.getMetrics().getFailureRate())
+                .description("ai-service failure rate in the sliding window, -1 until enough calls")
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,23 @@
+package com.phat.infrastructure.configuration;
+
+import com.phat.common.components.KafkaFactory;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static com.phat.common.Constants.KAFKA_TOPIC_ESSAY_CREATED;
+import static com.phat.common.Constants.KAFKA_TOPIC_ESSAY_DELETED;
+
+@Configuration
+public class EssayEventKafkaConfig {
+
+    @Bean
+    public NewTopic essayCreatedTopic() {
+        return KafkaFactory.createTopic(KAFKA_TOPIC_ESSAY_CREATED, 1, 1);
+    }
+
+    @Bean
+    public NewTopic essayDeletedTopic() {
+        return KafkaFactory.createTopic(KAFKA_TOPIC_ESSAY_DELETED, 1, 1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.phat.infrastructure.configuration;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for work the services hand off the request thread. They carry the caller's security context and are
+ * shut down with the application context. Like Tomcat and the gRPC server (see {@code VirtualThreadConfig}), they
+ * start a virtual thread per task when {@code spring.threads.virtual.enabled} is true and reuse pooled platform
+ * threads otherwise.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /** Runs the user-info and interaction-count lookups of an essay feed page concurrently. */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService feedEnrichmentExecutor(Environment environment) {
+        return newExecutor(environment, "feed-enrichment-");
+    }
+
+    /** Relays a streamed scoring to its SSE emitter, blocked on ai-service for as long as the model writes. */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService scoringStreamExecutor(Environment environment) {
+        return newExecutor(environment, "scoring-stream-");
+    }
+
+    private static ExecutorService newExecutor(Environment environment, String threadNamePrefix) {
+        ExecutorService executor = Threading.VIRTUAL.isActive(environment)
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix + "vt-", 0).factory())
+                : Executors.newCachedThreadPool(new CustomizableThreadFactory(threadNamePrefix));
+        return new DelegatingSecurityContextExecutorService(executor);
+    }
+}
@@ -0,0 +1,93 @@
+package com.phat.infrastructure.configuration;
+
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.configs.KafkaProperty;
+import com.phat.common.configs.ServiceProperties;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.phat.common.Constants.INSTANCE_ID;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SCORING_JOBS;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SCORING_JOB_UPDATES;
+
+@Configuration
+public class ScoringKafkaConfig {
+
+    @Value("${essay.scoring.concurrency:4}")
+    private int concurrency;
+
+    @Bean
+    public KafkaFactory<String> scoringKafkaFactory(KafkaProperties kafkaProperties) {
+        return KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+    }
+
+    /**
+     * One partition per worker so every consumer thread gets work.
+     */
+    @Bean
+    public NewTopic scoringJobsTopic() {
+        return KafkaFactory.createTopic(KAFKA_TOPIC_SCORING_JOBS, concurrency, 1);
+    }
+
+    @Bean
+    public NewTopic scoringJobUpdatesTopic() {
+        return KafkaFactory.createTopic(KAFKA_TOPIC_SCORING_JOB_UPDATES, 1, 1);
+    }
+
+    /**
+     * Shared group: each job is scored once, by at most {@code essay.scoring.concurrency} calls per instance.
+     * A job shed by the ai-service limiter or circuit breaker is not acknowledged; it is redelivered after a
+     * backoff that grows up to {@code essay.scoring.shed-backoff-max} and never gives up, so an overload delays
+     * queued jobs instead of failing them.
+     * <p>
+     * Scoring a job can take minutes, so each poll returns one record and may take up to
+     * {@code essay.scoring.max-processing-time} before the consumer is considered dead; after that the job's claim
+     * expires too and the next worker to get the record scores it.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> scoringJobContainerFactory(
+            KafkaFactory<String> scoringKafkaFactory,
+            ServiceProperties serviceProperties,
+            @Value("${essay.scoring.shed-backoff-max:PT30S}") Duration shedBackoffMax,
+            @Value("${essay.scoring.max-processing-time:PT5M}") Duration maxProcessingTime) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = scoringKafkaFactory.createContainerFactory(
+                scoringKafkaFactory.createConsumerFactory(serviceProperties.getName() + "-scoring",
+                        StringDeserializer.class, Map.of(
+                                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1,
+                                ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, (int) maxProcessingTime.toMillis())),
+                concurrency,
+                serviceProperties.getName() + "-scoring");
+        ExponentialBackOff shedBackOff = new ExponentialBackOff(1_000, 2.0);
+        shedBackOff.setMaxInterval(shedBackoffMax.toMillis());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(shedBackOff));
+        return factory;
+    }
+
+    /**
+     * Subscribers may be connected to any instance, so each one consumes job updates with its own group id.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> scoringJobUpdateContainerFactory(
+            KafkaFactory<String> scoringKafkaFactory,
+            ServiceProperties serviceProperties,
+            @Value(INSTANCE_ID) String instanceId) {
+        String groupId = serviceProperties.getName() + "-scoring-updates-" + instanceId;
+        return scoringKafkaFactory.createContainerFactory(
+                scoringKafkaFactory.createConsumerFactory(groupId, StringDeserializer.class, Map.of()),
+                1,
+                serviceProperties.getName() + "-scoring-updates");
+    }
+}
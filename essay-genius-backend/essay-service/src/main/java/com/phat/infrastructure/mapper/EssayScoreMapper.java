@@ -0,0 +1,22 @@
+package com.phat.infrastructure.mapper;
+
+import com.phat.api.model.response.EssayTaskTwoScoreResponse;
+import com.phat.grpc.ai.Correction;
+import com.phat.grpc.ai.EssayScore;
+import com.phat.grpc.ai.ScoreDetail;
+import com.phat.grpc.ai.Scores;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface EssayScoreMapper {
+    @Mapping(source = "correctionsList", target = "corrections")
+    @Mapping(source = "improvementTipsList", target = "improvementTips")
+    EssayTaskTwoScoreResponse toEssayTaskTwoScoreResponse(EssayScore essayScore);
+
+    EssayTaskTwoScoreResponse.Scores toScores(Scores scores);
+
+    EssayTaskTwoScoreResponse.ScoreDetail toScoreDetail(ScoreDetail scoreDetail);
+
+    EssayTaskTwoScoreResponse.Correction toCorrection(Correction correction);
+}
@@ -7,6 +7,7 @@ public enum AppErrorCode {
 
     TOKEN_INVALID("auth/token-invalid", "token_invalid"),
     FALLBACK_ERROR("fallback/error", "fallback_error"),
+    RATE_LIMIT_EXCEEDED("gateway/rate-limit-exceeded", "rate_limit_exceeded"),
     ;
 
     AppErrorCode(String code, String message) {
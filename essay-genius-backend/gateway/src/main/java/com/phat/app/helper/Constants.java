@@ -4,4 +4,11 @@ public class Constants {
     public static String MICROSERVICE_NAME = "GATEWAY-SERVICE";
 
     public static final ThreadLocal<String> REST_AUTHORIZATION_CONTEXT = new ThreadLocal<>();
+
+    public static final String INTERNAL_PRINCIPAL_HEADER = "X-Internal-Principal";
+
+    /** Exchange attribute holding the subject of the verified access token, if any. */
+    public static final String VERIFIED_SUBJECT_ATTRIBUTE = "verifiedSubject";
+
+    public static final String KAFKA_TOPIC_TOKEN_REVOKED = "TOKEN_REVOKED";
 }
@@ -0,0 +1,99 @@
+package com.phat.infrastructure.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phat.infrastructure.configuration.RateLimitProperties;
+import com.phat.infrastructure.configuration.RateLimitProperties.Policy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Token buckets per client and policy. Buckets live in this instance by default; with
+ * {@code gateway.rate-limit.redis-enabled} they are kept in Redis so every gateway instance draws from the
+ * same budget, and a Redis failure falls back to the local bucket rather than rejecting or waving through.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public record Decision(boolean allowed, long remaining, Duration retryAfter) {
+    }
+
+    private static final String REDIS_KEY_PREFIX = "rate_limit:";
+
+    private final RedisScript<List<Long>> tokenBucketScript;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Cache<String, TokenBucket> localBuckets;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RateLimiter(RateLimitProperties properties,
+                       ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider) {
+        this.redisTemplate = properties.isRedisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.tokenBucketScript = (RedisScript) RedisScript.of(
+                new ClassPathResource("scripts/token_bucket.lua"), List.class);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxLocalBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    public Mono<Decision> tryConsume(String clientKey, Policy policy) {
+        String key = policy.getId() + ":" + clientKey;
+        if (redisTemplate == null) {
+            return Mono.just(consumeLocally(key, policy));
+        }
+        return redisTemplate.execute(tokenBucketScript, List.of(REDIS_KEY_PREFIX + key), List.of(
+                        String.valueOf(policy.getCapacity()),
+                        String.valueOf(policy.getRefillTokens()),
+                        String.valueOf(policy.getRefillPeriod().toMillis())))
+                .next()
+                .map(result -> new Decision(result.get(0) == 1, result.get(1), Duration.ofMillis(result.get(2))))
+                .onErrorResume(e -> {
+                    log.warn("[{}]: Redis rate limiting failed, using the local bucket: {}", MICROSERVICE_NAME, e.getMessage());
+                    return Mono.just(consumeLocally(key, policy));
+                });
+    }
+
+    private Decision consumeLocally(String key, Policy policy) {
+        return localBuckets.get(key, k -> new TokenBucket(policy)).tryConsume();
+    }
+
+    /**
+     * Classic token bucket refilled continuously at {@code refillTokens / refillPeriod}.
+     */
+    private static final class TokenBucket {
+
+        private final long capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(Policy policy) {
+            this.capacity = policy.getCapacity();
+            this.tokensPerNano = (double) policy.getRefillTokens() / policy.getRefillPeriod().toNanos();
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private synchronized Decision tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new Decision(true, (long) tokens, Duration.ZERO);
+            }
+            return new Decision(false, 0, Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano)));
+        }
+    }
+}
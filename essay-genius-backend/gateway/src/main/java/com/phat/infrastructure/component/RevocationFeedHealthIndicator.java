@@ -0,0 +1,29 @@
+package com.phat.infrastructure.component;
+
+import com.phat.infrastructure.security.TokenRevocationConsumer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Part of the readiness group: the gateway is the only place access tokens are checked against revocations, so it
+ * takes no traffic until it has replayed the revocation topic.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RevocationFeedHealthIndicator implements HealthIndicator {
+
+    TokenRevocationConsumer tokenRevocationConsumer;
+
+    @Override
+    public Health health() {
+        if (tokenRevocationConsumer.isLive()) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("reason", "Replaying the token revocation topic").build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.phat.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+@Data
+public class RateLimitProperties {
+    private boolean enabled = true;
+    /** Share buckets between gateway instances through Redis; local buckets are used if Redis fails. */
+    private boolean redisEnabled = false;
+    /** Local buckets idle for this long are dropped. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private long maxLocalBuckets = 100_000;
+    /** Budget for requests that match none of {@link #routes}. */
+    private Policy defaultPolicy = new Policy();
+    /** Checked in order; the first policy whose path (and method, if given) matches applies. */
+    private List<Policy> routes = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+        private String id = "default";
+        /** Ant pattern on the gateway path, e.g. {@code /essay/scoring-essay/**}. */
+        private String path;
+        /** HTTP methods the policy applies to; empty means all. */
+        private List<String> methods = new ArrayList<>();
+        /** Burst size: the most requests a client can make at once. */
+        private long capacity = 120;
+        /** Tokens added back every {@link #refillPeriod}. */
+        private long refillTokens = 120;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
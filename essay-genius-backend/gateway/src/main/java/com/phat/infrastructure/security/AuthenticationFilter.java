@@ -2,8 +2,10 @@ package com.phat.infrastructure.security;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.phat.api.model.response.CommonResponse;
 import com.phat.app.exception.AppErrorCode;
+import com.phat.app.exception.AppException;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.HttpHeaders;
 import lombok.AccessLevel;
@@ -36,7 +38,9 @@ import java.util.List;
 import java.util.Locale;
 
 import static com.phat.app.exception.AppErrorCode.TOKEN_INVALID;
+import static com.phat.app.helper.Constants.INTERNAL_PRINCIPAL_HEADER;
 import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.app.helper.Constants.VERIFIED_SUBJECT_ATTRIBUTE;
 import static com.phat.infrastructure.component.Translator.getLocalizedMessage;
 
 @Component
@@ -46,6 +50,8 @@ import static com.phat.infrastructure.component.Translator.getLocalizedMessage;
 public class AuthenticationFilter implements GlobalFilter, Ordered {
 
     ObjectMapper objectMapper;
+    EdgeJwtVerifier edgeJwtVerifier;
+    InternalPrincipalSigner internalPrincipalSigner;
 
     @NonFinal
     private String[] publicEndpoints = {
@@ -105,30 +111,46 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
         LocaleContextHolder.setLocale(locale);
         ServerHttpRequest request = exchange.getRequest();
 
-        log.info("Incoming Request -> Method: {}, Path: {}, Headers: {}",
-                request.getMethod(), request.getURI(), request.getHeaders());
+        log.info("Incoming Request -> Method: {}, Path: {}", request.getMethod(), request.getURI());
 
         log.info("Resolved Locale: {}", LocaleContextHolder.getLocale());
 
         long startTime = System.currentTimeMillis();
 
-        if ("OPTIONS".equalsIgnoreCase(request.getMethod().name())) { return chain.filter(exchange); }
-        exchange.getRequest().getMethod();
-        if (isPublicEndpoint(exchange.getRequest()))
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+        // Only this filter may set the internal principal; drop whatever the client sent.
+        ServerWebExchange strippedExchange = exchange.mutate()
+                .request(builder -> builder.headers(headers -> headers.remove(INTERNAL_PRINCIPAL_HEADER)))
+                .build();
+
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod().name())) { return chain.filter(strippedExchange); }
+        if (isPublicEndpoint(request))
+            return chain.filter(strippedExchange).then(Mono.fromRunnable(() -> {
             ServerHttpResponse response = exchange.getResponse();
             long duration = System.currentTimeMillis() - startTime;
         }));
 
         // Get token from authorization header
-        List<String> authHeader = exchange.getRequest().getHeaders().get(HttpHeaders.AUTHORIZATION);
+        List<String> authHeader = request.getHeaders().get(HttpHeaders.AUTHORIZATION);
         if (CollectionUtils.isEmpty(authHeader))
             return unauthenticated(exchange.getResponse());
 
         String token = authHeader.getFirst().replace("Bearer ", "");
-        log.info("[{}]: Token: {}", MICROSERVICE_NAME, token);
+        JWTClaimsSet claims;
+        try {
+            claims = edgeJwtVerifier.verify(token);
+        } catch (AppException e) {
+            log.info("[{}]: Rejected token: {}", MICROSERVICE_NAME, e.getReason());
+            return unauthenticated(exchange.getResponse());
+        }
+
+        String principal = internalPrincipalSigner.sign(
+                claims.getSubject(), claims.getJWTID(), claims.getExpirationTime().toInstant());
+        ServerWebExchange authenticatedExchange = strippedExchange.mutate()
+                .request(builder -> builder.header(INTERNAL_PRINCIPAL_HEADER, principal))
+                .build();
+        authenticatedExchange.getAttributes().put(VERIFIED_SUBJECT_ATTRIBUTE, claims.getSubject());
 
-        return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+        return chain.filter(authenticatedExchange).then(Mono.fromRunnable(() -> {
             ServerHttpResponse response = exchange.getResponse();
             long duration = System.currentTimeMillis() - startTime;
 
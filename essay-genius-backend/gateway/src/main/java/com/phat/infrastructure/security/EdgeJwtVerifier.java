@@ -0,0 +1,61 @@
+package com.phat.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.phat.app.exception.AppErrorCode;
+import com.phat.app.exception.AppException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.util.Date;
+
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * Checks access tokens once at the edge: HS512 signature, expiry and the revoked-jti set. Downstream
+ * services then trust the internal principal header instead of decoding the token again.
+ */
+@Component
+public class EdgeJwtVerifier {
+
+    private static final JWSAlgorithm ACCESS_TOKEN_SIGNATURE_ALGORITHM = JWSAlgorithm.HS512;
+
+    private final JWSVerifier verifier;
+    private final RevokedTokenStore revokedTokenStore;
+
+    public EdgeJwtVerifier(@Value("${jwt.accessSignerKey}") String accessSignerKey,
+                           RevokedTokenStore revokedTokenStore) throws JOSEException {
+        this.verifier = new MACVerifier(accessSignerKey.getBytes());
+        this.revokedTokenStore = revokedTokenStore;
+    }
+
+    public JWTClaimsSet verify(String token) {
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            if (!ACCESS_TOKEN_SIGNATURE_ALGORITHM.equals(signedJWT.getHeader().getAlgorithm())
+                    || !signedJWT.verify(verifier)) {
+                throw new AppException(AppErrorCode.TOKEN_INVALID, UNAUTHORIZED, "Signature mismatch");
+            }
+
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            Date expiresAt = claims.getExpirationTime();
+            if (expiresAt == null || !expiresAt.after(new Date())) {
+                throw new AppException(AppErrorCode.TOKEN_INVALID, UNAUTHORIZED, "Token expired");
+            }
+            if (claims.getSubject() == null || claims.getJWTID() == null) {
+                throw new AppException(AppErrorCode.TOKEN_INVALID, UNAUTHORIZED, "Missing subject or jti");
+            }
+            if (revokedTokenStore.isRevoked(claims.getJWTID())) {
+                throw new AppException(AppErrorCode.TOKEN_INVALID, UNAUTHORIZED, "Token revoked");
+            }
+            return claims;
+        } catch (ParseException | JOSEException e) {
+            throw new AppException(AppErrorCode.TOKEN_INVALID, UNAUTHORIZED, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.phat.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Builds the {@code X-Internal-Principal} header for a verified token:
+ * {@code base64url(subject|jti|expiresAtMillis).base64url(HMAC-SHA256)}. The header expires after
+ * {@code jwt.internal-principal.ttl}, or with the token if that comes first.
+ */
+@Component
+public class InternalPrincipalSigner {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec signerKey;
+    private final Duration ttl;
+
+    public InternalPrincipalSigner(@Value("${jwt.internal-principal.signer-key}") String signerKey,
+                                   @Value("${jwt.internal-principal.ttl:30s}") Duration ttl) {
+        this.signerKey = new SecretKeySpec(signerKey.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    public String sign(String subject, String jti, Instant tokenExpiresAt) {
+        long expiresAt = Math.min(Instant.now().plus(ttl).toEpochMilli(), tokenExpiresAt.toEpochMilli());
+        String payload = ENCODER.encodeToString(
+                (subject + "|" + jti + "|" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signerKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign internal principal", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.phat.infrastructure.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phat.api.model.response.CommonResponse;
+import com.phat.app.exception.AppErrorCode;
+import com.phat.infrastructure.component.RateLimiter;
+import com.phat.infrastructure.configuration.RateLimitProperties;
+import com.phat.infrastructure.configuration.RateLimitProperties.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.core.HttpHeaders;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+import static com.phat.app.exception.AppErrorCode.RATE_LIMIT_EXCEEDED;
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.app.helper.Constants.VERIFIED_SUBJECT_ATTRIBUTE;
+import static com.phat.infrastructure.component.Translator.getLocalizedMessage;
+
+/**
+ * Token-bucket throttling per client and route, run right after {@link AuthenticationFilter} so the verified
+ * user id is known. Anonymous requests are keyed by client IP.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    RateLimitProperties rateLimitProperties;
+    RateLimiter rateLimiter;
+    MeterRegistry meterRegistry;
+    ObjectMapper objectMapper;
+    PathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!rateLimitProperties.isEnabled() || "OPTIONS".equalsIgnoreCase(request.getMethod().name())) {
+            return chain.filter(exchange);
+        }
+
+        Policy policy = resolvePolicy(request);
+        String clientKey = Optional.ofNullable(exchange.<String>getAttribute(VERIFIED_SUBJECT_ATTRIBUTE))
+                .map(subject -> "user:" + subject)
+                .orElseGet(() -> "ip:" + clientIp(request));
+
+        return rateLimiter.tryConsume(clientKey, policy).flatMap(decision -> {
+            requestCounter(policy, decision.allowed()).increment();
+            exchange.getResponse().getHeaders()
+                    .set(RATE_LIMIT_REMAINING_HEADER, String.valueOf(decision.remaining()));
+            if (decision.allowed()) {
+                return chain.filter(exchange);
+            }
+            log.info("[{}]: Rate limited {} on {}", MICROSERVICE_NAME, clientKey, policy.getId());
+            // Retry-After is in whole seconds; round up so clients never retry too early.
+            long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+            return tooManyRequests(exchange.getResponse(), retryAfterSeconds);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    private Policy resolvePolicy(ServerHttpRequest request) {
+        String path = request.getURI().getPath();
+        String method = request.getMethod().name();
+        return rateLimitProperties.getRoutes().stream()
+                .filter(policy -> pathMatcher.match(policy.getPath(), path))
+                .filter(policy -> policy.getMethods().isEmpty()
+                        || policy.getMethods().stream().anyMatch(method::equalsIgnoreCase))
+                .findFirst()
+                .orElse(rateLimitProperties.getDefaultPolicy());
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : "unknown";
+    }
+
+    private Counter requestCounter(Policy policy, boolean allowed) {
+        return Counter.builder("gateway.rate_limit.requests")
+                .tag("route", policy.getId())
+                .tag("result", allowed ? "allowed" : "rejected")
+                .register(meterRegistry);
+    }
+
+    private Mono<Void> tooManyRequests(ServerHttpResponse response, long retryAfterSeconds) {
+        AppErrorCode errorCode = RATE_LIMIT_EXCEEDED;
+        CommonResponse<?, ?> apiResponse = CommonResponse.builder()
+                .errorCode(errorCode.getCode())
+                .message(getLocalizedMessage(errorCode.getMessage()))
+                .build();
+
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(apiResponse);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        response.getHeaders().add(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        return response.writeWith(
+                Mono.just(response.bufferFactory().wrap(body.getBytes())));
+    }
+}
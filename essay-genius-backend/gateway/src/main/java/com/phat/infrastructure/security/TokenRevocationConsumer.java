@@ -0,0 +1,80 @@
+package com.phat.infrastructure.security;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_TOKEN_REVOKED;
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Applies revocations published by identity-service. Every gateway instance has its own group id and
+ * seeks to the beginning of the topic whenever it is assigned the partitions, which rebuilds the in-memory
+ * revoked set after a restart; entries for tokens that already expired are dropped on arrival. Records are
+ * keyed by jti and carry the expiry in epoch millis.
+ * <p>
+ * The feed counts as live once the replay has drained, i.e. the first time the listener goes idle after an
+ * assignment. Until then {@code RevocationFeedHealthIndicator} keeps the instance out of readiness, so it
+ * never serves requests against an incomplete revoked set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenRevocationConsumer implements ConsumerSeekAware {
+
+    static final String LISTENER_ID = "tokenRevocation";
+
+    RevokedTokenStore revokedTokenStore;
+
+    AtomicBoolean assigned = new AtomicBoolean();
+
+    AtomicBoolean live = new AtomicBoolean();
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            idIsGroup = false,
+            topics = KAFKA_TOPIC_TOKEN_REVOKED,
+            groupId = "${spring.application.name}-revocation-${spring.application.instance-id:${HOSTNAME:localhost}-${server.port}}",
+            properties = "auto.offset.reset=earliest")
+    public void onTokenRevoked(ConsumerRecord<String, String> record) {
+        try {
+            revokedTokenStore.revoke(record.key(), Instant.ofEpochMilli(Long.parseLong(record.value())));
+        } catch (NumberFormatException e) {
+            log.warn("[{}]: Skipping malformed revocation record {}: {}", MICROSERVICE_NAME, record.key(), record.value());
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToBeginning(assignments.keySet());
+        assigned.set(true);
+    }
+
+    /**
+     * Idle events are also published while the broker is unreachable, so only one following an assignment
+     * means the replay has caught up.
+     */
+    @EventListener(condition = "event.listenerId.startsWith('" + LISTENER_ID + "')")
+    public void onIdle(ListenerContainerIdleEvent event) {
+        if (assigned.get() && live.compareAndSet(false, true)) {
+            log.info("[{}]: Revocation feed caught up, {} tokens revoked", MICROSERVICE_NAME, revokedTokenStore.size());
+        }
+    }
+
+    public boolean isLive() {
+        return live.get();
+    }
+}
@@ -0,0 +1,29 @@
+-- Token bucket shared by all gateway instances.
+-- KEYS[1]: bucket key; ARGV: capacity, refill tokens, refill period in milliseconds.
+-- Returns {allowed (1/0), remaining tokens, retry after in milliseconds}.
+local capacity = tonumber(ARGV[1])
+local refill_tokens = tonumber(ARGV[2])
+local refill_period = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'updated_at')
+local tokens = tonumber(bucket[1]) or capacity
+local updated_at = tonumber(bucket[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - updated_at) * refill_tokens / refill_period)
+
+local allowed = 0
+local retry_after = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+else
+    retry_after = math.ceil((1 - tokens) * refill_period / refill_tokens)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'updated_at', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * refill_period / refill_tokens) + 1000)
+
+return {allowed, math.floor(tokens), retry_after}
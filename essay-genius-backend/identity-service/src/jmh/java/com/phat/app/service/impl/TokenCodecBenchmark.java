@@ -0,0 +1,122 @@
+package com.phat.app.service.impl;
+
+import com.phat.app.service.impl.TokenCodec.TokenType;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.phat.app.helper.Constants.ACCESS_TOKEN_SIGNATURE_ALGORITHM;
+import static com.phat.app.helper.Constants.REFRESH_TOKEN_SIGNATURE_ALGORITHM;
+
+/**
+ * Verifications (and signatures) per second of {@link TokenCodec} against the per-call Nimbus objects that
+ * {@code AuthServiceImpl} used to build. The {@code legacy*} methods reproduce the old code paths, including the
+ * second {@link NimbusJwtDecoder} decode of refresh tokens. Run with:
+ * <pre>
+ * mvn -B -pl identity-service -am install -DskipTests
+ * mvn -B -pl identity-service -Pbenchmark compile exec:exec -Djmh.args=TokenCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenCodecBenchmark {
+
+    private static final String ACCESS_SIGNER_KEY = "benchmark-access-signer-key-0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final String REFRESH_SIGNER_KEY = "benchmark-refresh-signer-key-0123456789abcdefghij";
+
+    private TokenCodec tokenCodec;
+    private JWTClaimsSet claimsSet;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        tokenCodec = new TokenCodec(ACCESS_SIGNER_KEY, REFRESH_SIGNER_KEY);
+        claimsSet = new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .issuer("org.sgu.dct1217")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .jwtID(UUID.randomUUID().toString())
+                .build();
+        accessToken = tokenCodec.encode(TokenType.ACCESS, claimsSet);
+        refreshToken = tokenCodec.encode(TokenType.REFRESH, claimsSet);
+    }
+
+    @Benchmark
+    public boolean legacyVerifyAccessToken() throws ParseException, JOSEException {
+        MACVerifier verifier = new MACVerifier(ACCESS_SIGNER_KEY.getBytes());
+        SignedJWT signedJWT = SignedJWT.parse(accessToken);
+        Date expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
+        return signedJWT.verify(verifier) && expiryTime.after(new Date());
+    }
+
+    @Benchmark
+    public boolean codecVerifyAccessToken() throws ParseException {
+        TokenCodec.TokenClaims claims = tokenCodec.decode(TokenType.ACCESS, accessToken);
+        return claims != null && !claims.isExpired();
+    }
+
+    @Benchmark
+    public Jwt legacyVerifyRefreshToken() throws ParseException, JOSEException {
+        MACVerifier verifier = new MACVerifier(REFRESH_SIGNER_KEY.getBytes());
+        SignedJWT signedJWT = SignedJWT.parse(refreshToken);
+        signedJWT.getJWTClaimsSet().getExpirationTime();
+        signedJWT.verify(verifier);
+
+        SecretKeySpec secretKeySpec = new SecretKeySpec(
+                REFRESH_SIGNER_KEY.getBytes(),
+                REFRESH_TOKEN_SIGNATURE_ALGORITHM.getName());
+        return NimbusJwtDecoder.withSecretKey(secretKeySpec)
+                .macAlgorithm(MacAlgorithm.from(REFRESH_TOKEN_SIGNATURE_ALGORITHM.getName()))
+                .build()
+                .decode(refreshToken);
+    }
+
+    @Benchmark
+    public TokenCodec.TokenClaims codecVerifyRefreshToken() throws ParseException {
+        return tokenCodec.decode(TokenType.REFRESH, refreshToken);
+    }
+
+    @Benchmark
+    public String legacySignAccessToken() throws JOSEException {
+        JWSObject jwsObject = new JWSObject(new JWSHeader(ACCESS_TOKEN_SIGNATURE_ALGORITHM),
+                new Payload(claimsSet.toJSONObject()));
+        jwsObject.sign(new MACSigner(ACCESS_SIGNER_KEY.getBytes()));
+        return jwsObject.serialize();
+    }
+
+    @Benchmark
+    public String codecSignAccessToken() {
+        return tokenCodec.encode(TokenType.ACCESS, claimsSet);
+    }
+}
@@ -2,19 +2,21 @@ package com.phat.api.model.request;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.phat.domain.enums.VerificationType;
 import lombok.*;
 
+/**
+ * A queued verification or password reset mail, sent as JSON on {@code SEND_MAIL_V2} keyed by {@link #email}.
+ */
 @Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class SendMailDto {
     @JsonProperty("verificationType")
-    private String verificationType;
+    private VerificationType verificationType;
     @JsonProperty("email")
     private String email;
     @JsonProperty("token")
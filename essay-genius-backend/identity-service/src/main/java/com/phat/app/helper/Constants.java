@@ -14,5 +14,16 @@ public class Constants {
 
     public static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
 
-    public static final String KAFKA_TOPIC_SEND_MAIL = "SEND_MAIL";
+    public static final String KAFKA_TOPIC_SEND_MAIL = "SEND_MAIL_V2";
+
+    /** Colon-joined mails queued before the JSON format, drained by {@code SendEmailConsumer#onLegacySendMail}. */
+    public static final String KAFKA_TOPIC_SEND_MAIL_LEGACY = "SEND_MAIL";
+
+    public static final String KAFKA_TOPIC_SEND_MAIL_RETRY = "SEND_MAIL_RETRY";
+
+    public static final String REDIS_REVOKED_TOKENS_KEY = "revoked_tokens";
+
+    public static final String REDIS_USER_INFO_KEY_PREFIX = "user_info:";
+
+    public static final String REDIS_PRESIGNED_URL_KEY_PREFIX = "presigned_url:";
 }
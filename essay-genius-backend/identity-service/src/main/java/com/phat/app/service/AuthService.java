@@ -1,6 +1,7 @@
 package com.phat.app.service;
 
 import com.phat.api.model.response.RefreshTokenResponse;
+import com.phat.app.service.impl.TokenCodec.TokenClaims;
 import com.phat.domain.enums.VerificationType;
 import com.phat.domain.model.User;
 import com.nimbusds.jose.JOSEException;
@@ -11,6 +12,8 @@ public interface AuthService {
 
     boolean introspect(String token) throws JOSEException, ParseException;
 
+    TokenClaims verifyAccessToken(String token) throws ParseException;
+
     void signUp(User user, String confirmationPassword, String firstName, String lastName);
 
     void sendEmailVerification(String email, VerificationType verificationType);
@@ -1,12 +1,19 @@
 package com.phat.app.service;
 
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 public interface BaseRedisService<K, F, V> {
 
     V get(K key);
 
+    List<V> multiGet(Collection<K> keys);
+
     void set(K key, V value);
 
     V hashGet(K key, F field);
@@ -27,4 +34,10 @@ public interface BaseRedisService<K, F, V> {
 
     Boolean setExpire(K key, long timeout, TimeUnit unit);
 
+    Boolean sortedSetAdd(K key, V value, double score);
+
+    Set<ZSetOperations.TypedTuple<V>> sortedSetRangeByScoreWithScores(K key, double min, double max);
+
+    Long sortedSetRemoveRangeByScore(K key, double min, double max);
+
 }
@@ -1,16 +1,16 @@
 package com.phat.app.service;
 
+import com.phat.api.model.request.SendMailDto;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 
 import java.io.UnsupportedEncodingException;
 
 public interface MailService {
-    void sendMailToVerifyWithToken(String to, String token) throws MessagingException, UnsupportedEncodingException, UnsupportedEncodingException;
-
-    void sendMailToVerifyWithCode(String to, String code) throws MessagingException, UnsupportedEncodingException;
-
-    void sendMailToResetPassword(String to, String code) throws MessagingException, UnsupportedEncodingException, MessagingException;
-
-    void sendMailToVerifyWithBoth(String to, String token, String code) throws MessagingException, UnsupportedEncodingException, MessagingException;
+    /**
+     * Renders the mail in the language it was requested in. Sending is left to the caller, so a batch can share
+     * one SMTP connection.
+     */
+    MimeMessage createMail(SendMailDto mail) throws MessagingException, UnsupportedEncodingException;
 
 }
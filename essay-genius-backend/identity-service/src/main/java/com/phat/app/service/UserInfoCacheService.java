@@ -0,0 +1,16 @@
+package com.phat.app.service;
+
+import com.phat.grpc.identity.GetUserInfoResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserInfoCacheService {
+
+    Map<String, GetUserInfoResponse> getAll(Collection<String> userIds);
+
+    void put(GetUserInfoResponse userInfo);
+
+    void evict(String userId);
+
+}
@@ -6,13 +6,14 @@ import com.phat.app.exception.AppException;
 import com.phat.app.service.AuthService;
 import com.phat.app.service.BaseRedisService;
 import com.phat.app.service.UserService;
+import com.phat.common.event.TokenRevokedEvent;
 import com.phat.domain.enums.VerificationType;
 import com.phat.domain.irepository.VerificationRepository;
 import com.phat.domain.model.User;
 import com.phat.domain.model.Verification;
+import com.phat.app.service.impl.TokenCodec.TokenClaims;
+import com.phat.app.service.impl.TokenCodec.TokenType;
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,20 +24,16 @@ import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Service;
 
 import org.springframework.security.core.AuthenticationException;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.security.SecureRandom;
 import java.text.ParseException;
 import java.time.Instant;
@@ -66,15 +63,9 @@ public class AuthServiceImpl implements AuthService {
 
   VerificationRepository verificationRepository;
 
-  KafkaTemplate<String, String> sendMailKafkaTemplate;
+  ApplicationEventPublisher eventPublisher;
 
-  @NonFinal
-  @Value("${jwt.accessSignerKey}")
-  String ACCESS_SIGNER_KEY;
-
-  @NonFinal
-  @Value("${jwt.refreshSignerKey}")
-  String REFRESH_SIGNER_KEY;
+  TokenCodec tokenCodec;
 
   @NonFinal
   @Value("${jwt.valid-duration}")
@@ -98,6 +89,11 @@ public class AuthServiceImpl implements AuthService {
 
   }
 
+  @Override
+  public TokenClaims verifyAccessToken(String token) throws ParseException {
+    return verifyToken(token, false);
+  }
+
   @Override
   public void signUp(User user, String confirmationPassword, String firstName, String lastName) {
     if (userService.existsByEmail(user.getEmail()))
@@ -147,20 +143,13 @@ public class AuthServiceImpl implements AuthService {
         .user(user)
         .build());
 
-    sendMailKafkaTemplate.send(KAFKA_TOPIC_SEND_MAIL,
-        verificationType + ":"
-            + email + ":"
-            + verification.getToken() + ":"
-            + verification.getCode() + ":"
-            + LocaleContextHolder.getLocale().getLanguage());
-    // SendMailDto sendMailDto = SendMailDto.builder()
-    // .verificationType(verificationType.toString())
-    // .email(email)
-    // .token(verification.getToken())
-    // .code(verification.getCode())
-    // .languageCode(LocaleContextHolder.getLocale().getLanguage())
-    // .build();
-    // sendMailKafkaTemplate.send(KAFKA_TOPIC_SEND_MAIL, sendMailDto);
+    eventPublisher.publishEvent(SendMailDto.builder()
+        .verificationType(verificationType)
+        .email(email)
+        .token(verification.getToken())
+        .code(verification.getCode())
+        .languageCode(LocaleContextHolder.getLocale().getLanguage())
+        .build());
   }
 
   public static String generateVerificationCode(int length) {
@@ -217,53 +206,29 @@ public class AuthServiceImpl implements AuthService {
 
   @Override
   public String generateToken(User user, boolean isRefresh) {
-    JWSHeader accessHeader = new JWSHeader(ACCESS_TOKEN_SIGNATURE_ALGORITHM);
-    JWSHeader refreshHeader = new JWSHeader(REFRESH_TOKEN_SIGNATURE_ALGORITHM);
-
     Date expiryTime = (isRefresh)
         ? new Date(Instant.now().plus(REFRESHABLE_DURATION, SECONDS).toEpochMilli())
         : new Date(Instant.now().plus(VALID_DURATION, SECONDS).toEpochMilli());
 
     String jwtID = UUID.randomUUID().toString();
 
-    JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
+    JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
         .subject(user.getId())
         .issuer("org.sgu.dct1217")
         .issueTime(new Date())
         .expirationTime(expiryTime)
-        .jwtID(jwtID)
-        .build();
-
-    if (!isRefresh) {
-      jwtClaimsSet = new JWTClaimsSet.Builder(jwtClaimsSet)
-          .claim("more-info", "???????")
-          .build();
-    }
+        .jwtID(jwtID);
 
-    Payload payload = new Payload(jwtClaimsSet.toJSONObject());
+    if (!isRefresh)
+      claims.claim("more-info", "???????");
 
-    JWSObject jwsObject = (isRefresh)
-        ? new JWSObject(refreshHeader, payload)
-        : new JWSObject(accessHeader, payload);
-
-    try {
-      if (isRefresh)
-        jwsObject.sign(new MACSigner(REFRESH_SIGNER_KEY.getBytes()));
-      else
-        jwsObject.sign(new MACSigner(ACCESS_SIGNER_KEY.getBytes()));
-
-      return jwsObject.serialize();
-
-    } catch (JOSEException e) {
-      log.error("Cannot create token", e);
-      throw new RuntimeException(e);
-    }
+    return tokenCodec.encode(isRefresh ? TokenType.REFRESH : TokenType.ACCESS, claims.build());
   }
 
   @Override
   public RefreshTokenResponse refresh(String refreshToken, HttpServletRequest servletRequest) throws ParseException, JOSEException {
-    SignedJWT signedJWT = verifyToken(refreshToken, true);
-    String id = signedJWT.getJWTClaimsSet().getSubject();
+    TokenClaims refreshClaims = verifyToken(refreshToken, true);
+    String id = refreshClaims.subject();
 
     User user;
     try {
@@ -281,18 +246,10 @@ public class AuthServiceImpl implements AuthService {
       if (!signedAccessTokenJWT.getJWTClaimsSet().getSubject().equals(id))
         throw new AppException(INVALID_TOKEN, BAD_REQUEST, "Invalid token");
 
-      if (expiryTime.after(new Date())) {
-        baseRedisService.setWithExpiration(jwtID, "revoked",
-                expiryTime.getTime() - System.currentTimeMillis(), MILLISECONDS);
-      }
+      revokeAccessToken(jwtID, expiryTime);
     }
 
-    String jwtID = signedJWT.getJWTClaimsSet().getJWTID();
-    Date expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
-    if (expiryTime.after(new Date())) {
-      baseRedisService.setWithExpiration(jwtID, "revoked",
-              expiryTime.getTime() - System.currentTimeMillis(), MILLISECONDS);
-    }
+    revokeToken(refreshClaims.jwtId(), refreshClaims.expiresAt());
 
     return RefreshTokenResponse.builder()
             .accessToken(generateToken(user, false))
@@ -344,21 +301,11 @@ public class AuthServiceImpl implements AuthService {
   @Override
   public void signOut(String accessToken, String refreshToken) throws ParseException, JOSEException {
     try {
-      SignedJWT signAccessToken = verifyToken(accessToken, false);
-      Date AccessTokenExpiryTime = signAccessToken.getJWTClaimsSet().getExpirationTime();
+      TokenClaims accessClaims = verifyToken(accessToken, false);
+      revokeAccessToken(accessClaims.jwtId(), accessClaims.expiresAt());
 
-      if (AccessTokenExpiryTime.after(new Date())) {
-        baseRedisService.setWithExpiration(signAccessToken.getJWTClaimsSet().getJWTID(), "revoked",
-            AccessTokenExpiryTime.getTime() - System.currentTimeMillis(), MILLISECONDS);
-      }
-
-      SignedJWT signRefreshToken = verifyToken(refreshToken, true);
-      Date RefreshTokenExpiryTime = signRefreshToken.getJWTClaimsSet().getExpirationTime();
-
-      if (RefreshTokenExpiryTime.after(new Date())) {
-        baseRedisService.setWithExpiration(signRefreshToken.getJWTClaimsSet().getJWTID(), "revoked",
-            RefreshTokenExpiryTime.getTime() - System.currentTimeMillis(), MILLISECONDS);
-      }
+      TokenClaims refreshClaims = verifyToken(refreshToken, true);
+      revokeToken(refreshClaims.jwtId(), refreshClaims.expiresAt());
 
     } catch (AuthenticationException exception) {
       log.error("Cannot sign out", exception);
@@ -366,44 +313,41 @@ public class AuthServiceImpl implements AuthService {
     }
   }
 
-  private SignedJWT verifyToken(String token, boolean isRefresh) throws JOSEException, ParseException {
-
-    JWSVerifier verifier = (isRefresh)
-        ? new MACVerifier(REFRESH_SIGNER_KEY.getBytes())
-        : new MACVerifier(ACCESS_SIGNER_KEY.getBytes());
-
-    SignedJWT signedJWT = SignedJWT.parse(token);
+  private void revokeToken(String jwtID, Date expiryTime) {
+    if (expiryTime.after(new Date())) {
+      baseRedisService.setWithExpiration(jwtID, "revoked",
+          expiryTime.getTime() - System.currentTimeMillis(), MILLISECONDS);
+    }
+  }
 
-    Date expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
+  /**
+   * Refresh tokens only ever come back to identity-service, so only access tokens are shared with the resource
+   * servers, through the revoked set they load on startup and the revocation topic.
+   */
+  private void revokeAccessToken(String jwtID, Date expiryTime) {
+    revokeToken(jwtID, expiryTime);
+    if (expiryTime.after(new Date())) {
+      baseRedisService.sortedSetAdd(REDIS_REVOKED_TOKENS_KEY, jwtID, expiryTime.getTime());
+      eventPublisher.publishEvent(new TokenRevokedEvent(jwtID, expiryTime));
+    }
+  }
 
-    boolean verified = signedJWT.verify(verifier);
+  private TokenClaims verifyToken(String token, boolean isRefresh) throws ParseException {
+    TokenClaims claims = tokenCodec.decode(isRefresh ? TokenType.REFRESH : TokenType.ACCESS, token);
 
     if (isRefresh) {
-      if (expiryTime.before(new Date()))
-        throw new AppException(TOKEN_EXPIRED, UNAUTHORIZED, "Token expired");
-
-      if (!verified)
+      if (claims == null)
         throw new AppException(INVALID_SIGNATURE, UNAUTHORIZED, "Invalid signature");
 
-      SecretKeySpec secretKeySpec = new SecretKeySpec(
-          REFRESH_SIGNER_KEY.getBytes(),
-          REFRESH_TOKEN_SIGNATURE_ALGORITHM.getName());
-      try {
-        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(secretKeySpec)
-            .macAlgorithm(MacAlgorithm.from(REFRESH_TOKEN_SIGNATURE_ALGORITHM.getName()))
-            .build();
-        nimbusJwtDecoder.decode(token);
-
-      } catch (JwtException e) {
-        throw new AppException(INVALID_SIGNATURE, UNAUTHORIZED, "Invalid signature");
-      }
+      if (claims.isExpired())
+        throw new AppException(TOKEN_EXPIRED, UNAUTHORIZED, "Token expired");
 
     } else {
-      if (!verified || expiryTime.before(new Date()))
+      if (claims == null || claims.isExpired())
         throw new AppException(TOKEN_INVALID, UNAUTHORIZED, "Token invalid");
     }
 
-    String value = (String) baseRedisService.get(signedJWT.getJWTClaimsSet().getJWTID());
+    String value = (String) baseRedisService.get(claims.jwtId());
 
     if (value != null) {
       if (value.equals("revoked"))
@@ -413,7 +357,7 @@ public class AuthServiceImpl implements AuthService {
         throw new AppException(TOKEN_BLACKLISTED, UNAUTHORIZED, "Token blacklisted");
     }
 
-    return signedJWT;
+    return claims;
   }
 
   private boolean isPasswordExpired(User user) {
@@ -8,9 +8,13 @@ import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -31,6 +35,11 @@ public class BaseRedisServiceImpl<K, F, V> implements BaseRedisService<K, F, V>
         return redisTemplate.opsForValue().get(key);
     }
 
+    @Override
+    public List<V> multiGet(Collection<K> keys) {
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
     @Override
     public void set(K key, V value) {
         redisTemplate.opsForValue().set(key, value);
@@ -81,5 +90,19 @@ public class BaseRedisServiceImpl<K, F, V> implements BaseRedisService<K, F, V>
         return redisTemplate.expire(key, timeout, unit);
     }
 
-}
+    @Override
+    public Boolean sortedSetAdd(K key, V value, double score) {
+        return redisTemplate.opsForZSet().add(key, value, score);
+    }
 
+    @Override
+    public Set<ZSetOperations.TypedTuple<V>> sortedSetRangeByScoreWithScores(K key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScoreWithScores(key, min, max);
+    }
+
+    @Override
+    public Long sortedSetRemoveRangeByScore(K key, double min, double max) {
+        return redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+}
@@ -1,14 +1,21 @@
 package com.phat.app.service.impl;
 
 import java.text.ParseException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import com.google.protobuf.Empty;
 import com.nimbusds.jose.JOSEException;
 import com.phat.api.mapper.UserMapper;
 import com.phat.app.service.AuthService;
+import com.phat.app.service.BaseRedisService;
 import com.phat.app.service.MinioClientService;
+import com.phat.app.service.UserInfoCacheService;
 import com.phat.app.service.UserService;
 import com.phat.common.response.UserInfo;
 import com.phat.domain.irepository.UserRepository;
@@ -19,8 +26,13 @@ import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 
 import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.app.helper.Constants.REDIS_REVOKED_TOKENS_KEY;
+import static com.phat.common.Constants.GRPC_ID_CHUNK_SIZE;
+import static com.phat.common.Utils.sendInChunks;
 
 @GrpcService
 @RequiredArgsConstructor
@@ -31,6 +43,11 @@ public class IdentityServiceGrpcServer extends IdentityServiceGrpc.IdentityServi
     private final UserService userService;
     private final MinioClientService minioClientService;
     private final UserRepository userRepository;
+    private final BaseRedisService<String, String, Object> baseRedisService;
+    private final UserInfoCacheService userInfoCacheService;
+
+    @Value("${jwt.valid-duration}")
+    private long accessTokenValidDuration;
 
     @Override
     public void introspect(IntrospectRequest request,
@@ -58,21 +75,13 @@ public class IdentityServiceGrpcServer extends IdentityServiceGrpc.IdentityServi
                             StreamObserver<GetUserInfoResponse> responseObserver) {
 
         try {
-            User user = userService.findById(request.getUserId());
-            GetUserInfoResponse.Builder responseBuilder = GetUserInfoResponse.newBuilder()
-                    .setUserId(user.getId())
-                    .setEmail(user.getEmail() != null ? user.getEmail() : "")
-                    .setFirstName(user.getFirstName() != null ? user.getFirstName() : "")
-                    .setLastName(user.getLastName() != null ? user.getLastName() : "")
-                    .setBio(user.getBio() != null ? user.getBio() : "");
-            try {
-                String url = minioClientService.getObjectUrl(user.getAvatar(), "user-avatars");
-                log.debug("Avatar URL retrieved: {}", url);
-                responseBuilder.setAvatar(url);
-            } catch (Exception e) {
-                log.error("Error when retrieving avatar URL for user: {}", user.getEmail(), e);
+            GetUserInfoResponse response = userInfoCacheService.getAll(List.of(request.getUserId()))
+                    .get(request.getUserId());
+            if (response == null) {
+                response = toUserInfoResponse(userService.findById(request.getUserId()));
+                userInfoCacheService.put(response);
             }
-            responseObserver.onNext(responseBuilder.build());
+            responseObserver.onNext(response);
             responseObserver.onCompleted();
 
         } catch (Exception e) {
@@ -83,18 +92,108 @@ public class IdentityServiceGrpcServer extends IdentityServiceGrpc.IdentityServi
         }
     }
 
+    @Override
+    public void getUserInfos(GetUserInfosRequest request,
+                             StreamObserver<GetUserInfosResponse> responseObserver) {
+        try {
+            Set<String> userIds = new LinkedHashSet<>(request.getUserIdsList());
+            GetUserInfosResponse.Builder responseBuilder = GetUserInfosResponse.newBuilder();
+            if (!userIds.isEmpty()) {
+                Map<String, GetUserInfoResponse> userInfos = new HashMap<>(userInfoCacheService.getAll(userIds));
+                Set<String> missingIds = new LinkedHashSet<>(userIds);
+                missingIds.removeAll(userInfos.keySet());
+                if (!missingIds.isEmpty()) {
+                    userRepository.findAllById(missingIds).forEach(user -> {
+                        GetUserInfoResponse userInfo = toUserInfoResponse(user);
+                        userInfoCacheService.put(userInfo);
+                        userInfos.put(user.getId(), userInfo);
+                    });
+                }
+                userIds.stream()
+                        .map(userInfos::get)
+                        .filter(Objects::nonNull)
+                        .forEach(responseBuilder::addUserInfos);
+            }
+            responseObserver.onNext(responseBuilder.build());
+            responseObserver.onCompleted();
+
+        } catch (Exception e) {
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(String.format("[%s]: Get user informations error: %s", MICROSERVICE_NAME, e.getMessage()))
+                    .asRuntimeException());
+        }
+    }
+
+    private GetUserInfoResponse toUserInfoResponse(User user) {
+        GetUserInfoResponse.Builder responseBuilder = GetUserInfoResponse.newBuilder()
+                .setUserId(user.getId())
+                .setEmail(user.getEmail() != null ? user.getEmail() : "")
+                .setFirstName(user.getFirstName() != null ? user.getFirstName() : "")
+                .setLastName(user.getLastName() != null ? user.getLastName() : "")
+                .setBio(user.getBio() != null ? user.getBio() : "");
+        if (user.getAvatar() != null && !user.getAvatar().isBlank()) {
+            try {
+                String url = minioClientService.getObjectUrl(user.getAvatar(), "user-avatars");
+                log.debug("Avatar URL retrieved: {}", url);
+                responseBuilder.setAvatar(url);
+            } catch (Exception e) {
+                log.error("Error when retrieving avatar URL for user: {}", user.getEmail(), e);
+            }
+        }
+        return responseBuilder.build();
+    }
+
     @Override
     public void getUserIds(Empty request, StreamObserver<GetUserIdsResponse> responseObserver) {
-        List<String> userIds = userRepository.findAll()
-                .stream()
-                .map(User::getId)
-                .collect(Collectors.toList());
+        try {
+            sendInChunks(streamUserIds(), GRPC_ID_CHUNK_SIZE,
+                    chunk -> GetUserIdsResponse.newBuilder().addAllUserIds(chunk).build(),
+                    responseObserver);
+        } catch (Exception e) {
+            log.error("[{}]: Streaming user ids failed: {}", MICROSERVICE_NAME, e.getMessage());
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(String.format("[%s]: Get user ids error: %s", MICROSERVICE_NAME, e.getMessage()))
+                    .asRuntimeException());
+        }
+    }
 
-        GetUserIdsResponse response = GetUserIdsResponse.newBuilder()
-                .addAllUserIds(userIds)
-                .build();
+    /**
+     * User ids in pages of one chunk each, fetched by key as the stream is read, so no connection or transaction is
+     * held open while the client is slow to take them.
+     */
+    private Stream<String> streamUserIds() {
+        PageRequest page = PageRequest.ofSize(GRPC_ID_CHUNK_SIZE);
+        return Stream.iterate(userRepository.findIdsAfter("", page),
+                        ids -> !ids.isEmpty(),
+                        ids -> ids.size() < GRPC_ID_CHUNK_SIZE ? List.of() : userRepository.findIdsAfter(ids.get(ids.size() - 1), page))
+                .flatMap(List::stream);
+    }
 
-        responseObserver.onNext(response);
-        responseObserver.onCompleted();
+    /**
+     * Streams the access-token jtis revoked and not yet expired, in chunks the client reads at its own pace. Only
+     * entries expiring within an access token's lifetime are sent, which also leaves out any refresh-token jtis the
+     * set held before refresh tokens stopped being added to it.
+     */
+    @Override
+    public void getRevokedTokens(Empty request, StreamObserver<GetRevokedTokensResponse> responseObserver) {
+        try {
+            long now = System.currentTimeMillis();
+            baseRedisService.sortedSetRemoveRangeByScore(REDIS_REVOKED_TOKENS_KEY, 0, now);
+            List<RevokedToken> revokedTokens = baseRedisService
+                    .sortedSetRangeByScoreWithScores(REDIS_REVOKED_TOKENS_KEY, now, now + accessTokenValidDuration * 1000)
+                    .stream()
+                    .map(token -> RevokedToken.newBuilder()
+                            .setJti(String.valueOf(token.getValue()))
+                            .setExpiresAt(token.getScore().longValue())
+                            .build())
+                    .toList();
+            sendInChunks(revokedTokens.stream(), GRPC_ID_CHUNK_SIZE,
+                    chunk -> GetRevokedTokensResponse.newBuilder().addAllRevokedTokens(chunk).build(),
+                    responseObserver);
+        } catch (Exception e) {
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(String.format("[%s]: Get revoked tokens error: %s", MICROSERVICE_NAME, e.getMessage()))
+                    .asRuntimeException());
+        }
     }
 }
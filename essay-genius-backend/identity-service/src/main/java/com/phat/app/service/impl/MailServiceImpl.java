@@ -1,5 +1,6 @@
 package com.phat.app.service.impl;
 
+import com.phat.api.model.request.SendMailDto;
 import com.phat.app.service.MailService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -7,11 +8,12 @@ import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.messaging.MessagingException;
 import org.springframework.stereotype.Service;
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -19,6 +21,7 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
@@ -42,47 +45,46 @@ public class MailServiceImpl implements MailService {
     String verifyLink;
 
     @Override
-    public void sendMailToVerifyWithToken(String to, String token) throws MessagingException, UnsupportedEncodingException, jakarta.mail.MessagingException {
-        sendMail(to,
-                "subject_verify_email",
-                "content_verify_email_with_token",
-                "sub_content_verify_email",
-                "footer_verify_email", String.format("%s?token=%s", verifyLink, token));
-    }
-
-    @Override
-    public void sendMailToVerifyWithCode(String to, String code) throws MessagingException, UnsupportedEncodingException, jakarta.mail.MessagingException {
-        sendMail(to,
-                "subject_verify_email",
-                "content_verify_email_with_code",
-                "sub_content_verify_email",
-                "footer_verify_email", code);
-    }
-
-    @Override
-    public void sendMailToResetPassword(String to, String code) throws MessagingException, UnsupportedEncodingException, jakarta.mail.MessagingException {
-        sendMail(to,
-                "subject_reset_password",
-                "content_reset_password",
-                "sub_reset_password",
-                "footer_reset_password", code);
-    }
-
-    @Override
-    public void sendMailToVerifyWithBoth(String to, String token, String code) throws jakarta.mail.MessagingException, UnsupportedEncodingException, jakarta.mail.MessagingException {
-        sendMail(to,
-                "subject_verify_email",
-                "content_verify_email_with_both",
-                "sub_content_verify_email_with_both",
-                "footer_verify_email", String.format("%s?token=%s&code=%s", verifyLink, token, code));
+    public MimeMessage createMail(SendMailDto mail) throws MessagingException, UnsupportedEncodingException {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(mail.getLanguageCode()));
+        try {
+            return switch (mail.getVerificationType()) {
+                case VERIFY_EMAIL_BY_CODE -> createMail(mail.getEmail(),
+                        "subject_verify_email",
+                        "content_verify_email_with_code",
+                        "sub_content_verify_email",
+                        "footer_verify_email", mail.getCode());
+
+                case VERIFY_EMAIL_BY_TOKEN -> createMail(mail.getEmail(),
+                        "subject_verify_email",
+                        "content_verify_email_with_token",
+                        "sub_content_verify_email",
+                        "footer_verify_email", String.format("%s?token=%s", verifyLink, mail.getToken()));
+
+                case RESET_PASSWORD -> createMail(mail.getEmail(),
+                        "subject_reset_password",
+                        "content_reset_password",
+                        "sub_reset_password",
+                        "footer_reset_password", mail.getCode());
+
+                case VERIFY_EMAIL_WITH_BOTH -> createMail(mail.getEmail(),
+                        "subject_verify_email",
+                        "content_verify_email_with_both",
+                        "sub_content_verify_email_with_both",
+                        "footer_verify_email",
+                        String.format("%s?token=%s&code=%s", verifyLink, mail.getToken(), mail.getCode()));
+            };
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
     }
 
-    private void sendMail(String toMail, String subjectKey,
-                          String contentKey,
-                          String subContentKey,
-                          String footerKey,
-                          String secret) throws MessagingException, UnsupportedEncodingException, UnsupportedEncodingException, jakarta.mail.MessagingException {
-        log.info("[{}]: Sending confirming link to user, email={}", MICROSERVICE_NAME, toMail);
+    private MimeMessage createMail(String toMail, String subjectKey,
+                                   String contentKey,
+                                   String subContentKey,
+                                   String footerKey,
+                                   String secret) throws MessagingException, UnsupportedEncodingException {
+        log.debug("[{}]: Rendering mail {} to {}", MICROSERVICE_NAME, subjectKey, toMail);
 
         String subject = getLocalizedMessage(subjectKey);
         String[] contents = new String[] {
@@ -117,9 +119,6 @@ public class MailServiceImpl implements MailService {
         helper.setSubject(subject);
         String html = templateEngine.process("common-template.html", context);
         helper.setText(html, true);
-
-        mailSender.send(message);
-
-        log.info("[{}]: Confirming link has sent to user, email={}, code={}", MICROSERVICE_NAME, toMail, secret);
+        return message;
     }
 }
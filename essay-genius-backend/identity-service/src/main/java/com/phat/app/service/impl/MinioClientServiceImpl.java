@@ -1,6 +1,7 @@
 package com.phat.app.service.impl;
 
 import com.phat.api.model.request.HandleFileEvent;
+import com.phat.app.service.BaseRedisService;
 import com.phat.app.service.MinioClientService;
 import com.phat.common.exception.file.FileException;
 import io.minio.*;
@@ -22,18 +23,28 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.stream.StreamSupport;
 
+import static com.phat.app.helper.Constants.REDIS_PRESIGNED_URL_KEY_PREFIX;
 import static com.phat.common.exception.file.FileErrorCode.*;
 import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 @Service
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Slf4j
 public class MinioClientServiceImpl implements MinioClientService {
+    private static final int PRESIGNED_URL_EXPIRY_DAYS = 1;
+
+    /** Cached URLs are dropped this long before MinIO stops accepting them. */
+    private static final Duration PRESIGNED_URL_SAFETY_MARGIN = Duration.ofHours(1);
+
     MinioClient minioClient;
 
+    BaseRedisService<String, String, Object> baseRedisService;
+
     @Value("${minio.bucket-name}")
     @NonFinal
     String bucketName;
@@ -46,7 +57,9 @@ public class MinioClientServiceImpl implements MinioClientService {
             @Value("${minio.endpoint}") String endpoint,
             @Value("${minio.access-key}") String accessKey,
             @Value("${minio.secret-key}") String secretKey,
-            @Autowired KafkaTemplate<String, HandleFileEvent> fileStorageTemplate) {
+            @Autowired KafkaTemplate<String, HandleFileEvent> fileStorageTemplate,
+            BaseRedisService<String, String, Object> baseRedisService) {
+        this.baseRedisService = baseRedisService;
         this.minioClient =
                 MinioClient.builder().endpoint(endpoint).credentials(accessKey, secretKey).build();
         log.info("MinioClientService initialized with endpoint: {}", endpoint);
@@ -91,15 +104,21 @@ public class MinioClientServiceImpl implements MinioClientService {
     @Override
     public String getObjectUrl(String objectKey, String bucketName) {
         log.info("Getting URL for object '{}' in bucket '{}'", objectKey, bucketName);
+        String cacheKey = toPresignedUrlKey(objectKey, bucketName);
+        Object cachedUrl = getCachedUrl(cacheKey);
+        if (cachedUrl instanceof String url) {
+            return url;
+        }
         try {
             String url = minioClient.getPresignedObjectUrl(
                     GetPresignedObjectUrlArgs.builder()
                             .method(Method.GET)
                             .bucket(bucketName)
                             .object(objectKey)
-                            .expiry(1, DAYS) // 1 week
+                            .expiry(PRESIGNED_URL_EXPIRY_DAYS, DAYS)
                             .build());
             log.debug("URL for object '{}' is: {}", objectKey, url);
+            cacheUrl(cacheKey, url);
             return url;
         } catch (MinioException | InvalidKeyException | IOException | NoSuchAlgorithmException e) {
             log.error("Error getting URL for object '{}' in bucket '{}'", objectKey, bucketName, e);
@@ -122,6 +141,7 @@ public class MinioClientServiceImpl implements MinioClientService {
 
             minioClient.removeObject(
                     RemoveObjectArgs.builder().bucket(bucketName).object(objectKey).build());
+            baseRedisService.delete(toPresignedUrlKey(objectKey, bucketName));
             log.debug("Object '{}' deleted successfully from bucket '{}'", objectKey, bucketName);
         } catch (Exception e) {
             log.error("Error deleting object '{}' from bucket '{}'", objectKey, bucketName, e);
@@ -129,6 +149,28 @@ public class MinioClientServiceImpl implements MinioClientService {
         }
     }
 
+    private String toPresignedUrlKey(String objectKey, String bucketName) {
+        return REDIS_PRESIGNED_URL_KEY_PREFIX + bucketName + ":" + objectKey;
+    }
+
+    private Object getCachedUrl(String cacheKey) {
+        try {
+            return baseRedisService.get(cacheKey);
+        } catch (Exception e) {
+            log.warn("Error reading cached URL '{}'", cacheKey, e);
+            return null;
+        }
+    }
+
+    private void cacheUrl(String cacheKey, String url) {
+        try {
+            long ttl = Duration.ofDays(PRESIGNED_URL_EXPIRY_DAYS).minus(PRESIGNED_URL_SAFETY_MARGIN).toMillis();
+            baseRedisService.setWithExpiration(cacheKey, url, ttl, MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Error caching URL '{}'", cacheKey, e);
+        }
+    }
+
     private void ensureBucketExists(String bucketName) {
         log.info("Ensuring that bucket '{}' exists", bucketName);
         try {
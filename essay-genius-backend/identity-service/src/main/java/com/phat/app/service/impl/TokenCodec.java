@@ -0,0 +1,141 @@
+package com.phat.app.service.impl;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.phat.app.helper.Constants.ACCESS_TOKEN_SIGNATURE_ALGORITHM;
+import static com.phat.app.helper.Constants.REFRESH_TOKEN_SIGNATURE_ALGORITHM;
+
+/**
+ * Signs and verifies access and refresh tokens with keys that are set up once at startup. Each token is parsed a
+ * single time and its HMAC is checked with a pooled {@link Mac}, instead of building a new Nimbus signer or
+ * verifier (and looking up the JCA provider again) on every call.
+ */
+@Component
+public class TokenCodec {
+
+    public enum TokenType { ACCESS, REFRESH }
+
+    /** Verified claims of a token. {@code claims} holds every claim, including the ones with their own accessor. */
+    public record TokenClaims(String subject, String jwtId, Date issuedAt, Date expiresAt, Map<String, Object> claims) {
+
+        public boolean isExpired() {
+            return expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis();
+        }
+    }
+
+    private final SigningKey accessKey;
+    private final SigningKey refreshKey;
+
+    public TokenCodec(@Value("${jwt.accessSignerKey}") String accessSignerKey,
+                      @Value("${jwt.refreshSignerKey}") String refreshSignerKey) {
+        this.accessKey = new SigningKey(ACCESS_TOKEN_SIGNATURE_ALGORITHM, accessSignerKey.getBytes(StandardCharsets.UTF_8));
+        this.refreshKey = new SigningKey(REFRESH_TOKEN_SIGNATURE_ALGORITHM, refreshSignerKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String encode(TokenType type, JWTClaimsSet claimsSet) {
+        SigningKey key = key(type);
+        String signingInput = key.encodedHeader + '.' + Base64URL.encode(claimsSet.toString());
+        byte[] signature = key.mac(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + Base64URL.encode(signature);
+    }
+
+    /**
+     * Returns the claims of {@code token}, or {@code null} when it was not signed with the key for {@code type}.
+     * Expiry is left to the caller through {@link TokenClaims#isExpired()}.
+     *
+     * @throws ParseException if the token is not a well-formed JWS
+     */
+    public TokenClaims decode(TokenType type, String token) throws ParseException {
+        SigningKey key = key(type);
+        SignedJWT signedJWT = SignedJWT.parse(token);
+
+        JWSHeader header = signedJWT.getHeader();
+        if (!key.algorithm.equals(header.getAlgorithm())
+                || (header.getCriticalParams() != null && !header.getCriticalParams().isEmpty())) {
+            return null;
+        }
+
+        byte[] expected = key.mac(signedJWT.getSigningInput());
+        if (!MessageDigest.isEqual(expected, signedJWT.getSignature().decode())) {
+            return null;
+        }
+
+        JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+        return new TokenClaims(
+                claimsSet.getSubject(),
+                claimsSet.getJWTID(),
+                claimsSet.getIssueTime(),
+                claimsSet.getExpirationTime(),
+                claimsSet.getClaims());
+    }
+
+    private SigningKey key(TokenType type) {
+        return type == TokenType.REFRESH ? refreshKey : accessKey;
+    }
+
+    /**
+     * One HMAC key with its pre-encoded JWS header. {@link Mac} is not thread-safe, so initialised copies of a
+     * prototype are handed out from a pool that grows to the peak number of concurrent callers.
+     */
+    private static final class SigningKey {
+
+        private final JWSAlgorithm algorithm;
+        private final String encodedHeader;
+        private final Mac prototype;
+        private final Queue<Mac> pool = new ConcurrentLinkedQueue<>();
+
+        private SigningKey(JWSAlgorithm algorithm, byte[] secret) {
+            String macAlgorithm = "HmacSHA" + algorithm.getName().substring(2);
+            int minimumLength = Integer.parseInt(algorithm.getName().substring(2)) / 8;
+            if (secret.length < minimumLength) {
+                throw new IllegalStateException(
+                        "The " + algorithm + " signer key must be at least " + minimumLength + " bytes long");
+            }
+            this.algorithm = algorithm;
+            this.encodedHeader = new JWSHeader(algorithm).toBase64URL().toString();
+            try {
+                this.prototype = Mac.getInstance(macAlgorithm);
+                this.prototype.init(new SecretKeySpec(secret, macAlgorithm));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialise " + macAlgorithm, e);
+            }
+        }
+
+        private byte[] mac(byte[] input) {
+            Mac mac = pool.poll();
+            if (mac == null) {
+                mac = copy();
+            }
+            try {
+                return mac.doFinal(input);
+            } finally {
+                pool.offer(mac);
+            }
+        }
+
+        private Mac copy() {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException("Cannot copy " + prototype.getAlgorithm(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.phat.app.service.impl;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.phat.app.service.BaseRedisService;
+import com.phat.app.service.UserInfoCacheService;
+import com.phat.grpc.identity.GetUserInfoResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.app.helper.Constants.REDIS_USER_INFO_KEY_PREFIX;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Shared (L2) copy of the profiles served over gRPC, stored as serialized protobuf. Callers keep their own
+ * in-process copy in {@link com.phat.common.service.IdentityServiceGrpcClient}.
+ */
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Slf4j
+public class UserInfoCacheServiceImpl implements UserInfoCacheService {
+
+    BaseRedisService<String, String, Object> baseRedisService;
+
+    @NonFinal
+    @Value("${user-info.cache.redis-ttl:PT30M}")
+    Duration redisTtl;
+
+    @Override
+    public Map<String, GetUserInfoResponse> getAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = new ArrayList<>(userIds);
+        Map<String, GetUserInfoResponse> userInfos = new HashMap<>();
+        try {
+            List<Object> values = baseRedisService.multiGet(ids.stream().map(this::toKey).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                if (values != null && values.get(i) instanceof byte[] bytes) {
+                    userInfos.put(ids.get(i), GetUserInfoResponse.parseFrom(bytes));
+                }
+            }
+        } catch (InvalidProtocolBufferException | RuntimeException e) {
+            log.warn("[{}]: Failed to read cached user infos, falling back to database", MICROSERVICE_NAME, e);
+        }
+        return userInfos;
+    }
+
+    @Override
+    public void put(GetUserInfoResponse userInfo) {
+        try {
+            baseRedisService.setWithExpiration(toKey(userInfo.getUserId()), userInfo.toByteArray(),
+                    redisTtl.toMillis(), MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("[{}]: Failed to cache user info {}", MICROSERVICE_NAME, userInfo.getUserId(), e);
+        }
+    }
+
+    @Override
+    public void evict(String userId) {
+        baseRedisService.delete(toKey(userId));
+    }
+
+    private String toKey(String userId) {
+        return REDIS_USER_INFO_KEY_PREFIX + userId;
+    }
+}
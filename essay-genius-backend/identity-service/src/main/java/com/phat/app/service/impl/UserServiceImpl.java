@@ -4,7 +4,9 @@ import com.phat.api.mapper.UserMapper;
 import com.phat.api.model.request.UpdateUserRequest;
 import com.phat.app.exception.AppException;
 import com.phat.app.service.MinioClientService;
+import com.phat.app.service.UserInfoCacheService;
 import com.phat.app.service.UserService;
+import com.phat.common.event.UserInfoChangedEvent;
 import com.phat.common.response.UserInfo;
 import com.phat.domain.model.User;
 import com.phat.domain.irepository.UserRepository;
@@ -12,6 +14,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -28,6 +31,8 @@ public class UserServiceImpl implements UserService {
     PasswordEncoder passwordEncoder;
     UserMapper userMapper;
     MinioClientService minioClientService;
+    UserInfoCacheService userInfoCacheService;
+    ApplicationEventPublisher eventPublisher;
 
     @Override
     public User findByEmail(String email) {
@@ -84,6 +89,7 @@ public class UserServiceImpl implements UserService {
         user.setBio(request.getBio());
         User updatedUser = userRepository.save(user);
         log.info("User with userId: {} updated successfully", updatedUser.getId());
+        invalidateUserInfo(updatedUser.getId());
         return userMapper.toUserInfo(updatedUser);
     }
 
@@ -95,6 +101,12 @@ public class UserServiceImpl implements UserService {
         user.setAvatar(avatarUrl);
         User updatedUser = userRepository.save(user);
         log.info("User with userId: {} updated successfully", updatedUser.getId());
+        invalidateUserInfo(updatedUser.getId());
         return userMapper.toUserInfo(updatedUser);
     }
+
+    private void invalidateUserInfo(String userId) {
+        userInfoCacheService.evict(userId);
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userId));
+    }
 }
\ No newline at end of file
@@ -2,9 +2,13 @@ package com.phat.domain.irepository;
 
 import com.phat.domain.model.User;
 import io.micrometer.observation.annotation.Observed;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,8 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
+    /** One page of user ids in id order, starting after {@code afterId}; pass {@code ""} for the first page. */
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<String> findIdsAfter(@Param("afterId") String afterId, Pageable pageable);
+
 }
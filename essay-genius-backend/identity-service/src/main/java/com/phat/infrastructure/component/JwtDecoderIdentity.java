@@ -1,25 +1,17 @@
 package com.phat.infrastructure.component;
 
-import com.phat.app.exception.AppException;
 import com.phat.app.service.AuthService;
-import com.nimbusds.jose.JOSEException;
+import com.phat.app.service.impl.TokenCodec.TokenClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.text.ParseException;
-import java.util.Objects;
 
-import static com.phat.app.exception.AppErrorCode.INVALID_TOKEN;
 import static com.phat.app.helper.Constants.ACCESS_TOKEN_SIGNATURE_ALGORITHM;
-import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @Component("jwtDecoderIdentity")
 @RequiredArgsConstructor
@@ -27,32 +19,25 @@ import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 @Primary
 public class JwtDecoderIdentity implements org.springframework.security.oauth2.jwt.JwtDecoder {
 
-    @Value("${jwt.accessSignerKey}")
-    private String ACCESS_SIGNER_KEY;
-
     private final AuthService authService;
 
-    private NimbusJwtDecoder nimbusJwtDecoder = null;
-
     @Override
     public Jwt decode(String token) {
+        TokenClaims claims;
         try {
-            if (!authService.introspect(token)) throw new AppException(INVALID_TOKEN, UNAUTHORIZED, "Introspection failed");
+            claims = authService.verifyAccessToken(token);
 
-        } catch (JOSEException | ParseException e) {
+        } catch (ParseException e) {
             throw new JwtException(e.getMessage());
         }
 
-        if (Objects.isNull(nimbusJwtDecoder)) {
-            SecretKeySpec secretKeySpec = new SecretKeySpec(
-                    ACCESS_SIGNER_KEY.getBytes(),
-                    ACCESS_TOKEN_SIGNATURE_ALGORITHM.getName());
-
-            nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(secretKeySpec)
-                    .macAlgorithm(MacAlgorithm.from(ACCESS_TOKEN_SIGNATURE_ALGORITHM.getName()))
-                    .build();
-        }
-        return nimbusJwtDecoder.decode(token);
+        // Built from the claims verified above rather than decoding the token a second time.
+        return Jwt.withTokenValue(token)
+                .header("alg", ACCESS_TOKEN_SIGNATURE_ALGORITHM.getName())
+                .claims(jwtClaims -> jwtClaims.putAll(claims.claims()))
+                .issuedAt(claims.issuedAt() != null ? claims.issuedAt().toInstant() : null)
+                .expiresAt(claims.expiresAt().toInstant())
+                .build();
     }
 
 }
@@ -1,69 +1,193 @@
 package com.phat.infrastructure.component;
 
 import com.phat.api.model.request.SendMailDto;
-import com.phat.app.exception.AppException;
 import com.phat.app.service.MailService;
 import com.phat.domain.enums.VerificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.MessagingException;
-import org.springframework.messaging.handler.annotation.Header;
+import jakarta.mail.internet.MimeMessage;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.kafka.annotation.DltHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Component;
 
 import java.io.UnsupportedEncodingException;
-import java.util.Locale;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletionException;
 
-import static com.phat.app.exception.AppErrorCode.SEND_MAIL_ERROR;
 import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL_LEGACY;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL_RETRY;
 import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
-import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
-import static org.springframework.kafka.support.KafkaHeaders.RECEIVED_TOPIC;
 
+/**
+ * Delivers queued mails. {@code SEND_MAIL_V2} is consumed in batches sent over one pooled SMTP connection per
+ * consumer thread; a mail the server refuses moves to {@code SEND_MAIL_RETRY}, whose retry topics and dead-letter
+ * topic are set up in {@code KafkaConfig}, and a record that is not a mail goes straight to the dead-letter topic.
+ * Records are keyed by recipient.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-@Slf4j
 public class SendEmailConsumer {
 
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(SendEmailConsumer.class);
+
     MailService mailService;
 
-    @KafkaListener(topics = KAFKA_TOPIC_SEND_MAIL, groupId = "${spring.kafka.consumer.group-id}")
-    public void listenNotificationDelivery(String message) {
+    SmtpTransportPool smtpTransportPool;
 
-        log.info("[{}]: Message received: {}", MICROSERVICE_NAME, message);
-        String type = message.split(":")[0];
-        String email = message.split(":")[1];
-        String token = message.split(":")[2];
-        String code = message.split(":")[3];
-        String languageCode = message.split(":")[4];
+    SendMailProducer sendMailProducer;
 
-        LocaleContextHolder.setLocale(Locale.forLanguageTag(languageCode));
-        log.info("[{}]: Message received: {}", MICROSERVICE_NAME, message);
+    MeterRegistry meterRegistry;
 
+    @KafkaListener(topics = KAFKA_TOPIC_SEND_MAIL, containerFactory = "sendMailContainerFactory")
+    public void onSendMail(List<ConsumerRecord<String, SendMailDto>> records, Acknowledgment acknowledgment) {
+        SmtpTransportPool.Connection connection = null;
+        int delivered = 0;
         try {
-            switch (VerificationType.valueOf(type)) {
-                case VERIFY_EMAIL_BY_CODE -> mailService.sendMailToVerifyWithCode(email, code);
+            for (int i = 0; i < records.size(); i++) {
+                ConsumerRecord<String, SendMailDto> record = records.get(i);
+                SendMailDto mail = record.value();
+                if (mail == null) {
+                    log.error("[{}]: Dead-lettering unreadable mail record at offset {}", MICROSERVICE_NAME, record.offset());
+                    deadLetter(record, i);
+                    continue;
+                }
+                MimeMessage message;
+                try {
+                    message = mailService.createMail(mail);
+                } catch (MessagingException | UnsupportedEncodingException | RuntimeException e) {
+                    log.warn("[{}]: Failed to render {} mail to {}, retrying later", MICROSERVICE_NAME,
+                            mail.getVerificationType(), mail.getEmail(), e);
+                    retryLater(mail, i);
+                    continue;
+                }
+                try {
+                    if (connection == null) {
+                        connection = smtpTransportPool.borrow();
+                    }
+                    connection.send(message);
+                    delivered++;
+                } catch (MessagingException e) {
+                    if (connection == null || !connection.isOpen()) {
+                        // The server is gone, not just this mail: retry the rest of the batch in place.
+                        throw new BatchListenerFailedException("SMTP server unavailable", e, i);
+                    }
+                    log.warn("[{}]: SMTP server refused {} mail to {}, retrying later", MICROSERVICE_NAME,
+                            mail.getVerificationType(), mail.getEmail(), e);
+                    retryLater(mail, i);
+                }
+            }
+        } finally {
+            if (connection != null) {
+                smtpTransportPool.release(connection);
+            }
+        }
+        acknowledgment.acknowledge();
+        log.info("[{}]: Delivered {} of {} mails", MICROSERVICE_NAME, delivered, records.size());
+    }
+
+    /**
+     * Re-queues a colon-joined {@code type:email:token:code:language} mail from {@code SEND_MAIL} as JSON. This
+     * listener uses the consumer group the old string consumer used, so each legacy record is converted once,
+     * whichever version reads it, and the JSON never reaches an old instance. Remove it once {@code SEND_MAIL} stays
+     * empty after the rollout.
+     */
+    @KafkaListener(topics = KAFKA_TOPIC_SEND_MAIL_LEGACY, containerFactory = "legacySendMailContainerFactory")
+    public void onLegacySendMail(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        String[] parts = record.value() != null ? record.value().split(":", -1) : new String[0];
+        if (parts.length != 5) {
+            log.error("[{}]: Dropping malformed legacy mail record at offset {}", MICROSERVICE_NAME, record.offset());
+            acknowledgment.acknowledge();
+            return;
+        }
+        sendMailProducer.queue(SendMailDto.builder()
+                .verificationType(VerificationType.valueOf(parts[0]))
+                .email(parts[1])
+                .token(legacyValue(parts[2]))
+                .code(legacyValue(parts[3]))
+                .languageCode(parts[4])
+                .build()).join();
+        acknowledgment.acknowledge();
+    }
 
-                case VERIFY_EMAIL_BY_TOKEN -> mailService.sendMailToVerifyWithToken(email, token);
+    /**
+     * Consumes {@code SEND_MAIL_RETRY} and its retry topics. Throwing moves the mail to the next retry topic.
+     */
+    @KafkaListener(topics = KAFKA_TOPIC_SEND_MAIL_RETRY, containerFactory = "sendMailRetryContainerFactory")
+    public void onSendMailRetry(SendMailDto mail, Acknowledgment acknowledgment)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailService.createMail(mail);
+        SmtpTransportPool.Connection connection = smtpTransportPool.borrow();
+        try {
+            connection.send(message);
+        } finally {
+            smtpTransportPool.release(connection);
+        }
+        acknowledgment.acknowledge();
+        log.info("[{}]: Delivered {} mail to {} on retry", MICROSERVICE_NAME, mail.getVerificationType(), mail.getEmail());
+    }
 
-                case RESET_PASSWORD -> mailService.sendMailToResetPassword(email, code);
+    /**
+     * The mail stays on the dead-letter topic with the {@code kafka_dlt-*} failure headers, from where it can be
+     * re-driven; the user can also ask for a new mail.
+     */
+    public void onDeadLetter(ConsumerRecord<String, SendMailDto> record, Acknowledgment acknowledgment) {
+        SendMailDto mail = record.value();
+        String type = mail != null && mail.getVerificationType() != null ? mail.getVerificationType().name() : "UNKNOWN";
+        Counter.builder("mail.delivery.dead_lettered")
+                .description("Mails given up on after every retry")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+        log.error("[{}]: Gave up on {} mail to {} at {}-{}@{}: {}", MICROSERVICE_NAME, type, record.key(),
+                record.topic(), record.partition(), record.offset(), header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        acknowledgment.acknowledge();
+    }
 
-                case VERIFY_EMAIL_WITH_BOTH -> mailService.sendMailToVerifyWithBoth(email, token, code);
-            }
+    /**
+     * Waits until the mail is on the retry topic. If it cannot be queued, the batch fails from this record, so the
+     * mails before it are committed and none after it has been sent yet.
+     */
+    private void retryLater(SendMailDto mail, int index) {
+        try {
+            sendMailProducer.retryLater(mail).join();
+        } catch (CompletionException e) {
+            throw new BatchListenerFailedException("Failed to queue mail for retry", e.getCause(), index);
         }
-        catch (MessagingException | UnsupportedEncodingException e) {
-            throw new AppException(SEND_MAIL_ERROR, UNPROCESSABLE_ENTITY, "Failed to create MimeMessageHelper");
+    }
+
+    private void deadLetter(ConsumerRecord<String, SendMailDto> record, int index) {
+        DeserializationException cause = SerializationUtils.getExceptionFromHeader(record,
+                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+        try {
+            sendMailProducer.deadLetter(record, cause != null ? cause : new IllegalArgumentException("Mail record has no value"));
+        } catch (RuntimeException e) {
+            throw new BatchListenerFailedException("Failed to dead-letter unreadable mail", e, index);
         }
     }
 
-    @DltHandler
-    public void dtl(String message, @Header(RECEIVED_TOPIC) String topic) {
-        log.info("[{}]: DTL TOPIC message : {}, topic name : {}", MICROSERVICE_NAME, message, topic);
+    /** The old producer joined a missing token or code as the string "null". */
+    private static String legacyValue(String value) {
+        return "null".equals(value) ? null : value;
     }
 
+    private static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
 }
@@ -0,0 +1,90 @@
+package com.phat.infrastructure.component;
+
+import com.phat.api.model.request.SendMailDto;
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.configs.KafkaProperty;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL_RETRY;
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Queues mails for {@link SendEmailConsumer}. Records are JSON without type headers and keyed by recipient, so mails
+ * to one address stay in order.
+ */
+@Slf4j
+@Component
+public class SendMailProducer {
+
+    /** Also publishes to the retry topics and the dead-letter topic of {@code SEND_MAIL_RETRY}. */
+    @Getter
+    private final KafkaTemplate<String, SendMailDto> sendMailKafkaTemplate;
+
+    /** Publishes records as they were received, so an unreadable one keeps its original bytes on the DLT. */
+    private final DeadLetterPublishingRecoverer unreadableMailRecoverer;
+
+    public SendMailProducer(KafkaProperties kafkaProperties) {
+        KafkaProperty kafkaProperty = new KafkaProperty(kafkaProperties);
+        KafkaFactory<SendMailDto> kafkaFactory = KafkaFactory.<SendMailDto>builder()
+                .kafkaProperty(kafkaProperty)
+                .build();
+        this.sendMailKafkaTemplate = new KafkaTemplate<>(kafkaFactory.createProducerFactory(JsonSerializer.class,
+                Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false)));
+        KafkaFactory<byte[]> rawKafkaFactory = KafkaFactory.<byte[]>builder()
+                .kafkaProperty(kafkaProperty)
+                .build();
+        this.unreadableMailRecoverer = new DeadLetterPublishingRecoverer(
+                new KafkaTemplate<>(rawKafkaFactory.createProducerFactory(ByteArraySerializer.class, Map.of())),
+                (record, e) -> new TopicPartition(KAFKA_TOPIC_SEND_MAIL_RETRY + "-dlt", -1));
+    }
+
+    @EventListener
+    public void onSendMail(SendMailDto mail) {
+        queue(mail);
+    }
+
+    public CompletableFuture<SendResult<String, SendMailDto>> queue(SendMailDto mail) {
+        return send(KAFKA_TOPIC_SEND_MAIL, mail);
+    }
+
+    /**
+     * Hands a mail the SMTP server refused to the retry topics. Callers wait for the returned future before
+     * committing the original record.
+     */
+    public CompletableFuture<SendResult<String, SendMailDto>> retryLater(SendMailDto mail) {
+        return send(KAFKA_TOPIC_SEND_MAIL_RETRY, mail);
+    }
+
+    /**
+     * Moves a record that is not a readable mail to {@code SEND_MAIL_RETRY-dlt} with the {@code kafka_dlt-*} failure
+     * headers, keeping the bytes the deserializer rejected. Blocks until the broker has it and throws if it does not.
+     */
+    public void deadLetter(ConsumerRecord<?, ?> record, Exception cause) {
+        unreadableMailRecoverer.accept(record, cause);
+    }
+
+    private CompletableFuture<SendResult<String, SendMailDto>> send(String topic, SendMailDto mail) {
+        return sendMailKafkaTemplate.send(topic, mail.getEmail(), mail)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[{}]: Failed to queue {} mail to {} on {}", MICROSERVICE_NAME,
+                                mail.getVerificationType(), mail.getEmail(), topic, ex);
+                    }
+                });
+    }
+}
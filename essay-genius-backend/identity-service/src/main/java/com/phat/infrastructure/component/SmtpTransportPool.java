@@ -0,0 +1,141 @@
+package com.phat.infrastructure.component;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Keeps SMTP connections open between sends, so a burst of mail goes out over a few long-lived conversations instead
+ * of paying the connect, STARTTLS and AUTH round trips that {@link JavaMailSenderImpl#send} does for every call. A
+ * connection is held by one thread at a time; there are never more than the number of threads sending at once.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutMillis;
+    private final BlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             @Value("${mail.delivery.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                             @Value("${mail.delivery.idle-timeout:60s}") Duration idleTimeout) {
+        this.mailSender = mailSender;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+    }
+
+    /**
+     * Hands out the most recently used idle connection that is still alive, or opens a new one. Throws when the
+     * server cannot be reached.
+     */
+    public Connection borrow() throws MessagingException {
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - connection.lastUsed < idleTimeoutMillis && connection.transport.isConnected()) {
+                return connection;
+            }
+            connection.close();
+        }
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        connection = new Connection(mailSender.getSession().getTransport(protocol));
+        connection.connect();
+        return connection;
+    }
+
+    public void release(Connection connection) {
+        if (!connection.isOpen()) {
+            return;
+        }
+        connection.lastUsed = System.currentTimeMillis();
+        idle.offerFirst(connection);
+    }
+
+    @Override
+    public void destroy() {
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+    }
+
+    public class Connection {
+
+        private final Transport transport;
+        private boolean open;
+        private int sent;
+        private long lastUsed;
+
+        private Connection(Transport transport) {
+            this.transport = transport;
+        }
+
+        /**
+         * Sends over this connection, starting a new conversation every {@code max-messages-per-connection} mails.
+         * If the server dropped the connection the mail is sent once more over a new one; when that fails too the
+         * connection is left closed, which tells the caller the server is gone rather than the mail was refused.
+         */
+        public void send(MimeMessage message) throws MessagingException {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            if (sent >= maxMessagesPerConnection) {
+                close();
+                connect();
+            }
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+            } catch (MessagingException e) {
+                if (transport.isConnected()) {
+                    throw e;
+                }
+                log.warn("[{}]: SMTP connection dropped after {} mails, reconnecting", MICROSERVICE_NAME, sent);
+                close();
+                connect();
+                transport.sendMessage(message, message.getAllRecipients());
+            }
+            sent++;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        private void connect() throws MessagingException {
+            String username = mailSender.getUsername();
+            String password = mailSender.getPassword();
+            if ("".equals(username)) {
+                username = null;
+                if ("".equals(password)) {
+                    password = null;
+                }
+            }
+            transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+            open = true;
+            sent = 0;
+        }
+
+        private void close() {
+            open = false;
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("[{}]: Failed to close SMTP connection", MICROSERVICE_NAME, e);
+            }
+        }
+    }
+}
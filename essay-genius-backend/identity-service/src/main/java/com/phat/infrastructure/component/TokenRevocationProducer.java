@@ -0,0 +1,41 @@
+package com.phat.infrastructure.component;
+
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.event.TokenRevokedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.common.Constants.KAFKA_TOPIC_TOKEN_REVOKED;
+
+/**
+ * Forwards local token revocations to the other services, keyed by jti with the expiry (epoch millis) as value.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+public class TokenRevocationProducer {
+
+    private final KafkaTemplate<String, String> tokenRevocationKafkaTemplate;
+
+    public TokenRevocationProducer(KafkaFactory<String> tokenRevocationKafkaFactory) {
+        this.tokenRevocationKafkaTemplate = new KafkaTemplate<>(
+                tokenRevocationKafkaFactory.createProducerFactory(StringSerializer.class, Map.of()));
+    }
+
+    @EventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        tokenRevocationKafkaTemplate.send(KAFKA_TOPIC_TOKEN_REVOKED, event.jti(), String.valueOf(event.expiryTime().getTime()))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[{}]: Failed to publish revocation of {}", MICROSERVICE_NAME, event.jti(), ex);
+                    }
+                });
+    }
+}
@@ -0,0 +1,46 @@
+package com.phat.infrastructure.component;
+
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.configs.KafkaProperty;
+import com.phat.common.event.UserInfoChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+import static com.phat.common.Constants.KAFKA_TOPIC_USER_INFO_CHANGED;
+
+/**
+ * Tells the other services to drop their cached copy of a changed profile. Records are keyed by user id.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "user-info.cache", name = "invalidation", havingValue = "true")
+public class UserInfoChangedProducer {
+
+    private final KafkaTemplate<String, String> userInfoChangedKafkaTemplate;
+
+    public UserInfoChangedProducer(KafkaProperties kafkaProperties) {
+        KafkaFactory<String> kafkaFactory = KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+        this.userInfoChangedKafkaTemplate = new KafkaTemplate<>(
+                kafkaFactory.createProducerFactory(StringSerializer.class, Map.of()));
+    }
+
+    @EventListener
+    public void onUserInfoChanged(UserInfoChangedEvent event) {
+        userInfoChangedKafkaTemplate.send(KAFKA_TOPIC_USER_INFO_CHANGED, event.userId(), event.userId())
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[{}]: Failed to publish profile change of {}", MICROSERVICE_NAME, event.userId(), ex);
+                    }
+                });
+    }
+}
@@ -1,27 +1,159 @@
 package com.phat.infrastructure.configuration;
 
 import com.phat.api.model.request.SendMailDto;
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.configs.KafkaProperty;
+import com.phat.common.configs.ServiceProperties;
+import com.phat.infrastructure.component.SendMailProducer;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.config.TopicBuilder;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
-
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL;
+import static com.phat.app.helper.Constants.KAFKA_TOPIC_SEND_MAIL_RETRY;
 
 @Configuration
 public class KafkaConfig {
+
+    @Value("${mail.delivery.concurrency:2}")
+    private int concurrency;
+
+    @Value("${mail.delivery.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * One partition per batch consumer so every consumer thread gets work.
+     */
     @Bean
     public NewTopic kafkaSendMailTopic() {
-        return TopicBuilder.name(KAFKA_TOPIC_SEND_MAIL).build();
+        return KafkaFactory.createTopic(KAFKA_TOPIC_SEND_MAIL, concurrency, 1);
+    }
+
+    @Bean
+    public KafkaFactory<SendMailDto> sendMailKafkaFactory(KafkaProperties kafkaProperties) {
+        return KafkaFactory.<SendMailDto>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+    }
+
+    /**
+     * Hands {@code SEND_MAIL} to the listener in batches of up to {@code mail.delivery.batch-size}. When the SMTP
+     * server is unreachable the batch is retried in place from the failed record, backing off up to a minute
+     * between attempts and never giving up, so an outage delays mail instead of dead-lettering it.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SendMailDto> sendMailContainerFactory(
+            KafkaFactory<SendMailDto> sendMailKafkaFactory,
+            ServiceProperties serviceProperties) {
+        ConcurrentKafkaListenerContainerFactory<String, SendMailDto> factory = sendMailKafkaFactory.createContainerFactory(
+                sendMailConsumerFactory(sendMailKafkaFactory, serviceProperties.getName() + "-mail",
+                        Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize)),
+                concurrency,
+                serviceProperties.getName() + "-mail");
+        factory.setBatchListener(true);
+        ExponentialBackOff smtpUnavailableBackOff = new ExponentialBackOff(1_000, 2.0);
+        smtpUnavailableBackOff.setMaxInterval(60_000);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(smtpUnavailableBackOff));
+        return factory;
+    }
+
+    /**
+     * Legacy {@code SEND_MAIL} records, read in the consumer group the old string consumer used, so the offsets it
+     * committed still count; see {@code SendEmailConsumer#onLegacySendMail}.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> legacySendMailContainerFactory(
+            KafkaProperties kafkaProperties,
+            ServiceProperties serviceProperties,
+            @Value("${spring.kafka.consumer.group-id}") String legacyGroupId) {
+        KafkaFactory<String> kafkaFactory = KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+        return kafkaFactory.createContainerFactory(
+                kafkaFactory.createConsumerFactory(legacyGroupId, StringDeserializer.class, Map.of()),
+                1,
+                serviceProperties.getName() + "-mail-legacy");
+    }
+
+    /**
+     * Single records for {@code SEND_MAIL_RETRY}, its retry topics and its dead-letter topic.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SendMailDto> sendMailRetryContainerFactory(
+            KafkaFactory<SendMailDto> sendMailKafkaFactory,
+            ServiceProperties serviceProperties) {
+        return sendMailKafkaFactory.createContainerFactory(
+                sendMailConsumerFactory(sendMailKafkaFactory, serviceProperties.getName() + "-mail-retry", Map.of()),
+                1,
+                serviceProperties.getName() + "-mail-retry");
+    }
+
+    /**
+     * Mails the SMTP server refused are tried again on {@code SEND_MAIL_RETRY-retry-N} topics with exponential
+     * backoff, then land on {@code SEND_MAIL_RETRY-dlt}, which keeps them with the failure headers for re-driving.
+     */
+    @Bean
+    public RetryTopicConfiguration sendMailRetryTopicConfiguration(
+            SendMailProducer sendMailProducer,
+            @Value("${mail.delivery.retry.attempts:4}") int attempts,
+            @Value("${mail.delivery.retry.initial-interval:30s}") Duration initialInterval,
+            @Value("${mail.delivery.retry.multiplier:4}") double multiplier,
+            @Value("${mail.delivery.retry.max-interval:30m}") Duration maxInterval) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(KAFKA_TOPIC_SEND_MAIL_RETRY)
+                .listenerFactory("sendMailRetryContainerFactory")
+                .maxAttempts(attempts)
+                .exponentialBackoff(initialInterval.toMillis(), multiplier, maxInterval.toMillis())
+                .suffixTopicsWithIndexValues()
+                .autoCreateTopicsWith(1, (short) 1)
+                .dltHandlerMethod("sendEmailConsumer", "onDeadLetter")
+                .doNotRetryOnDltFailure()
+                .create(sendMailProducer.getSendMailKafkaTemplate());
+    }
+
+    /**
+     * Retry topics are consumed again once their backoff expires; this schedules the partition resumes.
+     */
+    @Bean
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("kafka-retry-");
+        return new RetryTopicSchedulerWrapper(scheduler);
+    }
+
+    /**
+     * A record that is not a {@link SendMailDto} does not stop the partition: the batch listener gets it with a null
+     * value and dead-letters it, the retry listener's error handler does the same. The groups start from the
+     * earliest offset, as their topics only ever held JSON mail and nothing queued before a group first joins may be
+     * skipped.
+     */
+    private static ConsumerFactory<String, SendMailDto> sendMailConsumerFactory(
+            KafkaFactory<SendMailDto> sendMailKafkaFactory,
+            String groupId,
+            Map<String, Object> additionalProperties) {
+        Map<String, Object> properties = new HashMap<>(additionalProperties);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        properties.put(JsonDeserializer.VALUE_DEFAULT_TYPE, SendMailDto.class);
+        properties.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        return sendMailKafkaFactory.createConsumerFactory(groupId, ErrorHandlingDeserializer.class, properties);
     }
 }
@@ -1,5 +1,7 @@
 package com.phat.infrastructure.security;
 
+import com.phat.common.components.InternalPrincipalAuthenticationFilter;
+import com.phat.common.configs.InternalPrincipalProperties;
 import com.phat.infrastructure.component.JwtDecoderIdentity;
 import com.phat.infrastructure.component.JwtAuthenticationEntryPoint;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
@@ -55,7 +58,8 @@ public class SecurityConfig{
     JwtDecoderIdentity customJwtDecoder;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpRequest) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity httpRequest,
+                                                   InternalPrincipalProperties internalPrincipalProperties) throws Exception {
 
         httpRequest.authorizeHttpRequests(request ->
         {
@@ -68,8 +72,15 @@ public class SecurityConfig{
             log.info("[{}]: Request: {}", MICROSERVICE_NAME, request);
         });
 
-        httpRequest.oauth2ResourceServer(oauth2 -> oauth2.jwt(
-                                jwtConfigurer -> jwtConfigurer
+        if (internalPrincipalProperties.isEnabled()) {
+            httpRequest.addFilterBefore(
+                    new InternalPrincipalAuthenticationFilter(internalPrincipalProperties, jwtAuthenticationConverter()),
+                    BearerTokenAuthenticationFilter.class);
+        }
+
+        httpRequest.oauth2ResourceServer(oauth2 -> oauth2
+                        .bearerTokenResolver(InternalPrincipalAuthenticationFilter.bearerTokenResolver())
+                        .jwt(jwtConfigurer -> jwtConfigurer
                                         .decoder(customJwtDecoder)
                                         .jwtAuthenticationConverter(jwtAuthenticationConverter()))
                         .authenticationEntryPoint(new JwtAuthenticationEntryPoint()))
@@ -13,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,7 +42,7 @@ public class InteractionController {
 
     @GetMapping("/comments")
     @ResponseStatus(HttpStatus.OK)
-    public Page<CommentResponse> getComments(@ModelAttribute ListCommentRequest listCommentRequest) {
+    public Slice<CommentResponse> getComments(@ModelAttribute ListCommentRequest listCommentRequest) {
         return interactionService.findAllComments(listCommentRequest);
     }
 
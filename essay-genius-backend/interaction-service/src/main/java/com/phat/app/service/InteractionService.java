@@ -11,8 +11,12 @@ import com.phat.domain.model.Comment;
 import com.phat.domain.model.Reaction;
 import com.phat.domain.model.ReactionType;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+
 
 @Service
 public interface InteractionService {
@@ -22,7 +26,7 @@ public interface InteractionService {
 
     Reaction addReaction(String targetId, String targetType, String type);
 
-    Page<CommentResponse> findAllComments(ListCommentRequest request);
+    Slice<CommentResponse> findAllComments(ListCommentRequest request);
 
     Page<ReactionResponse> findAllReactions(ListReactionRequest request);
 
@@ -39,5 +43,7 @@ public interface InteractionService {
     long getReactionCountByTargetIdAndType(String targetId, ReactionType reactionType);
 
     ReactedInfo isUserReacted(String targetId, String userId);
+
+    Map<String, InteractionCountResponse> getInteractionCounts(Collection<String> targetIds, String userId);
 }
 
@@ -0,0 +1,170 @@
+package com.phat.app.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phat.common.components.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Local view of which essay ids are valid, so comment and reaction writes do not wait on essay-service.
+ * Ids streamed from essay-service at startup and announced on the essay topics go into a Bloom filter, ids
+ * confirmed by a remote check go into a small LRU, and deleted ids are remembered until a rebuild that started after
+ * their deletion replaces the filter, since the filter keeps matching them until then. Once
+ * {@code deleted-cache-size} of them pile up, a rebuild is started to drop them.
+ * Only ids the filter has never seen are checked remotely, which also covers events that have not arrived yet.
+ * A Bloom filter hit is trusted, so roughly {@code false-positive-rate} of unknown ids are accepted.
+ */
+@Slf4j
+@Service
+public class EssayExistenceFilter {
+
+    private final EssayGrpcClient essayGrpcClient;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> confirmedIds;
+    private final long deletedCacheSize;
+    private final Set<String> deletedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final Counter deletedHits;
+    private final Counter confirmedHits;
+    private final Counter filterHits;
+    private final Counter remoteChecks;
+
+    private volatile long expectedInsertions;
+
+    /** Null until the first load from essay-service completes; every check is remote until then. */
+    private volatile BloomFilter knownIds;
+
+    /** The filter being rebuilt, so ids created meanwhile are not lost when it replaces {@link #knownIds}. */
+    private volatile BloomFilter nextKnownIds;
+
+    public EssayExistenceFilter(EssayGrpcClient essayGrpcClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${essay.existence-filter.enabled:true}") boolean enabled,
+                                @Value("${essay.existence-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${essay.existence-filter.false-positive-rate:0.001}") double falsePositiveRate,
+                                @Value("${essay.existence-filter.confirmed-cache-size:10000}") long confirmedCacheSize,
+                                @Value("${essay.existence-filter.deleted-cache-size:100000}") long deletedCacheSize) {
+        this.essayGrpcClient = essayGrpcClient;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmedIds = Caffeine.newBuilder().maximumSize(confirmedCacheSize).build();
+        this.deletedCacheSize = deletedCacheSize;
+        this.deletedHits = checkCounter(meterRegistry, "deleted");
+        this.confirmedHits = checkCounter(meterRegistry, "confirmed");
+        this.filterHits = checkCounter(meterRegistry, "filter");
+        this.remoteChecks = checkCounter(meterRegistry, "remote");
+    }
+
+    public boolean exists(String essayId) {
+        if (!enabled) {
+            return essayGrpcClient.isEssayIdExist(essayId);
+        }
+        if (deletedIds.contains(essayId)) {
+            deletedHits.increment();
+            return false;
+        }
+        if (confirmedIds.getIfPresent(essayId) != null) {
+            confirmedHits.increment();
+            return true;
+        }
+        BloomFilter filter = knownIds;
+        if (filter != null && filter.mightContain(essayId)) {
+            filterHits.increment();
+            return true;
+        }
+
+        remoteChecks.increment();
+        boolean exists = essayGrpcClient.isEssayIdExist(essayId);
+        if (exists) {
+            onEssayCreated(essayId);
+        }
+        return exists;
+    }
+
+    public void onEssayCreated(String essayId) {
+        confirmedIds.put(essayId, Boolean.TRUE);
+        BloomFilter filter = knownIds;
+        if (filter != null) {
+            filter.put(essayId);
+            if (filter.isSaturated()) {
+                expectedInsertions = Math.max(expectedInsertions, filter.insertions() * 2);
+                rebuildInBackground();
+            }
+        }
+        BloomFilter next = nextKnownIds;
+        if (next != null) {
+            next.put(essayId);
+        }
+    }
+
+    public void onEssayDeleted(String essayId) {
+        deletedIds.add(essayId);
+        confirmedIds.invalidate(essayId);
+        if (enabled && deletedIds.size() >= deletedCacheSize) {
+            rebuildInBackground();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuildInBackground();
+        }
+    }
+
+    private void rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "essay-existence-filter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void rebuild() {
+        try {
+            // The ids streamed below no longer include these, so once the new filter is in place it does not match them.
+            Set<String> deletedBefore = Set.copyOf(deletedIds);
+            BloomFilter next = null;
+            do {
+                if (next != null) {
+                    expectedInsertions = next.insertions() * 2;
+                }
+                BloomFilter filling = new BloomFilter(expectedInsertions, falsePositiveRate);
+                nextKnownIds = filling;
+                essayGrpcClient.forEachEssayIdChunk(chunk -> chunk.forEach(filling::put));
+                next = filling;
+            } while (next.isSaturated());
+            knownIds = next;
+            deletedIds.removeAll(deletedBefore);
+            log.info("[{}]: Loaded {} essay ids into the existence filter, {} deleted ids remembered",
+                    MICROSERVICE_NAME, next.insertions(), deletedIds.size());
+        } catch (Exception e) {
+            log.warn("[{}]: Could not load essay ids, unknown ids are checked remotely: {}", MICROSERVICE_NAME, e.getMessage());
+        } finally {
+            nextKnownIds = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("interaction.essay.existence.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
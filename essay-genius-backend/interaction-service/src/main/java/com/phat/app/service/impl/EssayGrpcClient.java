@@ -1,17 +1,20 @@
 package com.phat.app.service.impl;
 
 import com.google.protobuf.Empty;
+import com.phat.common.components.SingleFlight;
 import com.phat.common.exception.AppErrorCode;
 import com.phat.common.exception.AppException;
 import com.phat.grpc.essay.EssayServiceGrpc;
-import com.phat.grpc.essay.GetEssayIdsResponse;
 import com.phat.grpc.essay.IsEssayIdExistRequest;
+import io.grpc.Context;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -19,11 +22,21 @@ public class EssayGrpcClient {
     @GrpcClient("essay-service")
     private EssayServiceGrpc.EssayServiceBlockingStub stub;
 
+    /** Comments and reactions on a popular essay check the same id concurrently. */
+    private final SingleFlight<String, Boolean> essayExistenceCalls = new SingleFlight<>();
+
     public List<String> getEssayIds() {
-        try {
-            GetEssayIdsResponse response = stub.getEssayIds(Empty.getDefaultInstance());
+        List<String> essayIds = new ArrayList<>();
+        forEachEssayIdChunk(essayIds::addAll);
+        return essayIds;
+    }
 
-            return response.getEssayIdsList();
+    /** Streams every essay id from essay-service, handing them over one chunk at a time. */
+    public void forEachEssayIdChunk(Consumer<List<String>> chunkConsumer) {
+        // Closing the context cancels the call if the consumer stops before the stream is exhausted.
+        try (Context.CancellableContext context = Context.current().withCancellation()) {
+            context.run(() -> stub.getEssayIds(Empty.getDefaultInstance())
+                    .forEachRemaining(response -> chunkConsumer.accept(response.getEssayIdsList())));
         } catch (Exception e) {
             log.error("gRPC Error: " + e.getMessage());
             throw new AppException(AppErrorCode.CONNECTION_REFUSED, HttpStatus.BAD_REQUEST,"gRPC request failed", e);
@@ -31,6 +44,10 @@ public class EssayGrpcClient {
     }
 
     public boolean isEssayIdExist(String essayId) {
+        return essayExistenceCalls.execute(essayId, () -> requestIsEssayIdExist(essayId));
+    }
+
+    private boolean requestIsEssayIdExist(String essayId) {
         try {
             return stub.isEssayIdExist(IsEssayIdExistRequest.newBuilder().setEssayId(essayId).build()).getIsExist();
         } catch (Exception e) {
@@ -1,12 +1,15 @@
 package com.phat.app.service.impl;
 
 import com.phat.app.service.InteractionService;
+import com.phat.common.response.InteractionCountResponse;
 import com.phat.grpc.interaction.*;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.List;
+
 
 @GrpcService
 @RequiredArgsConstructor
@@ -17,18 +20,14 @@ public class InteractionServiceGrpcServer extends InteractionServiceGrpc.Interac
     @Override
     public void getInteractionCount(GetInteractionCountRequest request, StreamObserver<GetInteractionCountResponse> responseObserver) {
         try{
-            com.phat.common.response.ReactedInfo reactedInfo = interactionService.isUserReacted(request.getTargetId(), request.getCurrentUserId());
-
-            ReactedInfo.Builder builder = ReactedInfo.newBuilder().setIsReacted(reactedInfo.isReacted());
-            if (reactedInfo.isReacted()){
-                builder.setReactionType(reactedInfo.reactionType());
-                builder.setReactionId(reactedInfo.reactionId());
-            }
+            InteractionCountResponse counts = interactionService
+                    .getInteractionCounts(List.of(request.getTargetId()), request.getCurrentUserId())
+                    .get(request.getTargetId());
 
             GetInteractionCountResponse response = GetInteractionCountResponse.newBuilder()
-                    .setReactionCount(interactionService.getReactionCount(request.getTargetId()))
-                    .setCommentCount(interactionService.getCommentCount(request.getTargetId()))
-                    .setReactedInfo(builder)
+                    .setReactionCount(counts.reactionCount())
+                    .setCommentCount(counts.commentCount())
+                    .setReactedInfo(toReactedInfo(counts.reactedInfo()))
                     .build();
 
             responseObserver.onNext(response);
@@ -42,4 +41,35 @@ public class InteractionServiceGrpcServer extends InteractionServiceGrpc.Interac
 
     }
 
+    @Override
+    public void getInteractionCounts(GetInteractionCountsRequest request, StreamObserver<GetInteractionCountsResponse> responseObserver) {
+        try {
+            GetInteractionCountsResponse.Builder responseBuilder = GetInteractionCountsResponse.newBuilder();
+            interactionService.getInteractionCounts(request.getTargetIdsList(), request.getCurrentUserId())
+                    .forEach((targetId, counts) -> responseBuilder.putInteractionCounts(targetId,
+                            GetInteractionCountResponse.newBuilder()
+                                    .setReactionCount(counts.reactionCount())
+                                    .setCommentCount(counts.commentCount())
+                                    .setReactedInfo(toReactedInfo(counts.reactedInfo()))
+                                    .build()));
+
+            responseObserver.onNext(responseBuilder.build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            log.error("Error while processing getInteractionCounts request: {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(String.format("Error while processing getInteractionCounts request: %s", e.getMessage()))
+                    .asRuntimeException());
+        }
+    }
+
+    private ReactedInfo.Builder toReactedInfo(com.phat.common.response.ReactedInfo reactedInfo) {
+        ReactedInfo.Builder builder = ReactedInfo.newBuilder().setIsReacted(reactedInfo.isReacted());
+        if (reactedInfo.isReacted()){
+            builder.setReactionType(reactedInfo.reactionType());
+            builder.setReactionId(reactedInfo.reactionId());
+        }
+        return builder;
+    }
+
 }
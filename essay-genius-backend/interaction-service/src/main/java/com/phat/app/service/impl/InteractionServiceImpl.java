@@ -4,6 +4,7 @@ import com.phat.api.mapper.CommentMapper;
 import com.phat.api.model.request.ListCommentRequest;
 import com.phat.api.model.request.ListReactionRequest;
 import com.phat.api.model.response.CommentResponse;
+import com.phat.api.model.response.CursorSlice;
 import com.phat.api.model.response.ReactionResponse;
 import com.phat.api.model.response.ToxicCheckerResponse;
 import com.phat.common.exception.AppErrorCode;
@@ -14,12 +15,15 @@ import com.phat.common.response.ReactedInfo;
 import com.phat.common.response.UserInfo;
 import com.phat.common.service.IdentityServiceGrpcClient;
 import com.phat.domain.irepository.CommentRepository;
+import com.phat.domain.irepository.EssayCounterRepository;
 import com.phat.domain.irepository.ReactionRepository;
 import com.phat.domain.model.Comment;
+import com.phat.domain.model.EssayCounter;
 import com.phat.domain.model.Reaction;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 import com.phat.domain.model.ReactionType;
@@ -29,8 +33,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,17 +54,16 @@ public class InteractionServiceImpl implements InteractionService {
     CommentRepository commentRepository;
     ReactionRepository reactionRepository;
     MongoTemplate mongoTemplate;
-    EssayGrpcClient essayGrpcClient;
+    EssayExistenceFilter essayExistenceFilter;
     AIGrpcClient aiGrpcClient;
     CommentMapper commentMapper;
+    EssayCounterRepository essayCounterRepository;
+
     @Override
     @Transactional
-    public ToxicCheckerResponse addComment(String essayId, String content, String parentCommentId) {if (!essayGrpcClient.isEssayIdExist(essayId)) throw new IllegalArgumentException("Essay ID does not exist");
-        if (parentCommentId != null) {
-            Comment parentComment = commentRepository.findById(parentCommentId)
-                    .orElseThrow(() -> new IllegalArgumentException("Parent comment not found"));
-            parentComment.setReplyCount(parentComment.getReplyCount() + 1);
-            commentRepository.save(parentComment);
+    public ToxicCheckerResponse addComment(String essayId, String content, String parentCommentId) {if (!essayExistenceFilter.exists(essayId)) throw new IllegalArgumentException("Essay ID does not exist");
+        if (parentCommentId != null && incrementCommentCounter(parentCommentId, "replyCount", 1) == null) {
+            throw new IllegalArgumentException("Parent comment not found");
         }
         Comment comment = Comment.builder()
                 .essayId(essayId)
@@ -67,6 +74,7 @@ public class InteractionServiceImpl implements InteractionService {
                 .build();
 
         commentRepository.save(comment);
+        incrementEssayCounter(essayId, "commentCount", 1);
         CommentResponse commentResponse = commentMapper.toCommentResponse(comment);
         commentResponse.setUser(identityServiceGrpcClient.getUserInfo(getCurrentUser()));
         return ToxicCheckerResponse.builder().valid(true)
@@ -87,15 +95,12 @@ public class InteractionServiceImpl implements InteractionService {
     @Override
     @Transactional
     public Comment addCommentMock(String essayId, String content, String parentCommentId) {
-        if (!essayGrpcClient.isEssayIdExist(essayId)) {
+        if (!essayExistenceFilter.exists(essayId)) {
             throw new IllegalArgumentException("Essay ID does not exist");
         }
 
-        if (parentCommentId != null) {
-            Comment parentComment = commentRepository.findById(parentCommentId)
-                    .orElseThrow(() -> new IllegalArgumentException("Parent comment not found"));
-            parentComment.setReplyCount(parentComment.getReplyCount() + 1);
-            commentRepository.save(parentComment);
+        if (parentCommentId != null && incrementCommentCounter(parentCommentId, "replyCount", 1) == null) {
+            throw new IllegalArgumentException("Parent comment not found");
         }
         Comment comment = Comment.builder()
                 .essayId(essayId)
@@ -104,7 +109,9 @@ public class InteractionServiceImpl implements InteractionService {
                 .replyCount(0)
                 .build();
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        incrementEssayCounter(essayId, "commentCount", 1);
+        return saved;
     }
 
     @Override
@@ -119,12 +126,11 @@ public class InteractionServiceImpl implements InteractionService {
             return reactionRepository.save(reaction);
         }
         if(targetType.equals(TargetType.valueOf("COMMENT").name())) {
-            Comment comment = commentRepository.findById(targetId)
-                    .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
-            comment.setReactionCount(comment.getReactionCount() + 1);
-            commentRepository.save(comment);
+            if (!commentRepository.existsById(targetId)) {
+                throw new IllegalArgumentException("Comment not found");
+            }
         } else if (targetType.equals(TargetType.valueOf("ESSAY").name())) {
-            if (!essayGrpcClient.isEssayIdExist(targetId)){
+            if (!essayExistenceFilter.exists(targetId)){
                 throw new IllegalArgumentException("Essay ID does not exist");
             }
         }
@@ -134,19 +140,35 @@ public class InteractionServiceImpl implements InteractionService {
                 .targetType(TargetType.valueOf(targetType.toUpperCase()))
                 .build();
 
-        return reactionRepository.save(reaction);
+        Reaction saved = reactionRepository.save(reaction);
+        incrementReactionCounter(saved, 1);
+        return saved;
     }
 
-    public Page<CommentResponse> findAllComments(ListCommentRequest request) {
+    public Slice<CommentResponse> findAllComments(ListCommentRequest request) {
+        if (request.isCursorMode()) {
+            List<Comment> comments = mongoTemplate.find(request.toCursorQuery(request.toCriteria()), Comment.class);
+            CursorSlice<Comment> slice = request.toCursorSlice(comments);
+            return new CursorSlice<>(toCommentResponses(slice.getContent()), slice.getSize(), slice.getNextCursor());
+        }
+
         Query baseQuery = new Query(request.toCriteria());
         long total = mongoTemplate.count(baseQuery, Comment.class);
 
         Query query = new Query(request.toCriteria()).with(request.toPageable());
         List<Comment> comments = mongoTemplate.find(query, Comment.class);
-        List<CommentResponse> responses = comments.stream().map(
+        return new PageImpl<>(toCommentResponses(comments), request.toPageable(), total);
+    }
+
+    private List<CommentResponse> toCommentResponses(List<Comment> comments) {
+        Map<String, UserInfo> userInfos = identityServiceGrpcClient.getUserInfos(
+                comments.stream().map(Comment::getCreatedBy).toList());
+        Map<String, ReactedInfo> reactedInfos = findReactedInfos(
+                comments.stream().map(Comment::getId).toList(), getCurrentUser());
+        return comments.stream().map(
                 comment -> {
-                    UserInfo userInfo = identityServiceGrpcClient.getUserInfo(comment.getCreatedBy());
-                    ReactedInfo reactedInfo = isUserReacted(comment.getId(), getCurrentUser());
+                    UserInfo userInfo = userInfoOrPlaceholder(userInfos, comment.getCreatedBy());
+                    ReactedInfo reactedInfo = reactedInfos.get(comment.getId());
                     return CommentResponse.builder()
                             .user(userInfo)
                             .id(comment.getId())
@@ -154,14 +176,12 @@ public class InteractionServiceImpl implements InteractionService {
                             .content(comment.getContent())
                             .essayId(comment.getEssayId())
                             .parentId(comment.getParentId())
-                            .replyCount(getCommentReply(comment.getId()))
-                            .reactionCount(getReactionCount(comment.getId()))
+                            .replyCount(valueOf(comment.getReplyCount()))
+                            .reactionCount(valueOf(comment.getReactionCount()))
                             .reactedInfo(reactedInfo)
                             .build();
                 }
         ).toList();
-
-        return new PageImpl<>(responses, request.toPageable(), total);
     }
 
     public Page<ReactionResponse> findAllReactions(ListReactionRequest request) {
@@ -170,9 +190,11 @@ public class InteractionServiceImpl implements InteractionService {
 
         Query query = new Query(request.toCriteria()).with(request.toPageable());
         List<Reaction> reactions = mongoTemplate.find(query, Reaction.class);
+        Map<String, UserInfo> userInfos = identityServiceGrpcClient.getUserInfos(
+                reactions.stream().map(Reaction::getCreatedBy).toList());
         List<ReactionResponse> responses = reactions.stream().map(
                 reaction -> {
-                    UserInfo userInfo = identityServiceGrpcClient.getUserInfo(reaction.getCreatedBy());
+                    UserInfo userInfo = userInfoOrPlaceholder(userInfos, reaction.getCreatedBy());
                     return ReactionResponse.builder()
                             .user(userInfo)
                             .reactionType(reaction.getReactionType())
@@ -188,9 +210,19 @@ public class InteractionServiceImpl implements InteractionService {
 
     @Override
     public void deleteComment(String commentId) {
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new IllegalArgumentException("Comment not found"));
-        comment.softDelete();
-        commentRepository.save(comment);
+        Query query = new Query(Criteria.where("id").is(commentId).and("isDeleted").ne(true));
+        Update update = new Update()
+                .set("isDeleted", true)
+                .set("deletedBy", getCurrentUser())
+                .set("deletedAt", new Date());
+        Comment comment = mongoTemplate.findAndModify(query, update, Comment.class);
+        if (comment == null) {
+            throw new IllegalArgumentException("Comment not found");
+        }
+        incrementEssayCounter(comment.getEssayId(), "commentCount", -1);
+        if (comment.getParentId() != null) {
+            incrementCommentCounter(comment.getParentId(), "replyCount", -1);
+        }
     }
 
     @Override
@@ -198,21 +230,29 @@ public class InteractionServiceImpl implements InteractionService {
         Reaction reaction = reactionRepository.findByIdAndCreatedBy(reactionId, getCurrentUser())
                 .orElseThrow(() -> new IllegalArgumentException("Reaction not found"));
         reactionRepository.delete(reaction);
+        incrementReactionCounter(reaction, -1);
     }
 
     @Override
     public long getCommentCount(String targetId) {
-        return commentRepository.countByEssayId(targetId);
+        return essayCounterRepository.findById(targetId)
+                .map(counter -> valueOf(counter.getCommentCount()))
+                .orElse(0L);
     }
 
     @Override
     public long getReactionCount(String targetId) {
-        return reactionRepository.countByTargetId(targetId);
+        return essayCounterRepository.findById(targetId)
+                .map(counter -> valueOf(counter.getReactionCount()))
+                .or(() -> commentRepository.findById(targetId).map(comment -> valueOf(comment.getReactionCount())))
+                .orElse(0L);
     }
 
     @Override
     public long getCommentReply(String parentId) {
-        return commentRepository.countByParentId(parentId);
+        return commentRepository.findById(parentId)
+                .map(comment -> valueOf(comment.getReplyCount()))
+                .orElse(0L);
     }
 
     @Override
@@ -237,4 +277,82 @@ public class InteractionServiceImpl implements InteractionService {
         }
     }
 
+    @Override
+    public Map<String, InteractionCountResponse> getInteractionCounts(Collection<String> targetIds, String userId) {
+        Set<String> ids = new LinkedHashSet<>(targetIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, EssayCounter> counters = essayCounterRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(EssayCounter::getEssayId, Function.identity()));
+        Map<String, ReactedInfo> reactedInfos = findReactedInfos(ids, userId);
+
+        Map<String, InteractionCountResponse> result = new LinkedHashMap<>();
+        for (String id : ids) {
+            EssayCounter counter = counters.getOrDefault(id, EssayCounter.builder().essayId(id).build());
+            result.put(id, InteractionCountResponse.builder()
+                    .reactionCount(valueOf(counter.getReactionCount()))
+                    .commentCount(valueOf(counter.getCommentCount()))
+                    .reactedInfo(reactedInfos.get(id))
+                    .build());
+        }
+        return result;
+    }
+
+    private Map<String, ReactedInfo> findReactedInfos(Collection<String> targetIds, String userId) {
+        Map<String, Reaction> userReactions = targetIds.isEmpty()
+                ? Map.of()
+                : mongoTemplate.find(
+                                new Query(Criteria.where("targetId").in(targetIds).and("createdBy").is(userId)), Reaction.class)
+                        .stream()
+                        .collect(Collectors.toMap(Reaction::getTargetId, Function.identity(), (a, b) -> a));
+
+        Map<String, ReactedInfo> result = new HashMap<>();
+        for (String id : targetIds) {
+            Reaction reaction = userReactions.get(id);
+            result.put(id, reaction == null
+                    ? ReactedInfo.builder().isReacted(false).build()
+                    : ReactedInfo.builder()
+                            .isReacted(true)
+                            .reactionId(reaction.getId())
+                            .reactionType(String.valueOf(reaction.getReactionType()))
+                            .build());
+        }
+        return result;
+    }
+
+    private Comment incrementCommentCounter(String commentId, String field, int delta) {
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(commentId)),
+                new Update().inc(field, delta),
+                FindAndModifyOptions.options().returnNew(true),
+                Comment.class);
+    }
+
+    private void incrementEssayCounter(String essayId, String field, int delta) {
+        mongoTemplate.findAndModify(
+                new Query(Criteria.where("essayId").is(essayId)),
+                new Update().inc(field, (long) delta),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                EssayCounter.class);
+    }
+
+    private void incrementReactionCounter(Reaction reaction, int delta) {
+        if (reaction.getTargetType() == TargetType.COMMENT) {
+            incrementCommentCounter(reaction.getTargetId(), "reactionCount", delta);
+        } else if (reaction.getTargetType() == TargetType.ESSAY) {
+            incrementEssayCounter(reaction.getTargetId(), "reactionCount", delta);
+        }
+    }
+
+    /** A user identity-service no longer knows is shown as a placeholder rather than without a user. */
+    private static UserInfo userInfoOrPlaceholder(Map<String, UserInfo> userInfos, String userId) {
+        return userInfos.getOrDefault(userId, UserInfo.placeholder(userId));
+    }
+
+    private static long valueOf(Number counter) {
+        return counter == null ? 0L : counter.longValue();
+    }
+
 }
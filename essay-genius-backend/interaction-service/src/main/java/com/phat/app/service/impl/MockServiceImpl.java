@@ -5,6 +5,7 @@ import com.phat.app.service.MockService;
 
 import com.phat.common.service.IdentityServiceGrpcClient;
 import com.phat.domain.irepository.CommentRepository;
+import com.phat.domain.irepository.EssayCounterRepository;
 import com.phat.domain.irepository.ReactionRepository;
 import com.phat.domain.model.Comment;
 import com.phat.domain.model.Reaction;
@@ -30,6 +31,7 @@ public class MockServiceImpl implements MockService {
     InteractionService interactionService;
     CommentRepository commentRepository;
     ReactionRepository reactionRepository;
+    EssayCounterRepository essayCounterRepository;
     EssayGrpcClient essayGrpcClient;
     IdentityServiceGrpcClient identityServiceGrpcClient;
     Faker faker = new Faker();
@@ -103,6 +105,7 @@ public class MockServiceImpl implements MockService {
     public void clear() {
         commentRepository.deleteAll();
         reactionRepository.deleteAll();
+        essayCounterRepository.deleteAll();
     }
 
 }
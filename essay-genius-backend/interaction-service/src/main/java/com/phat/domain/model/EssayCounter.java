@@ -0,0 +1,30 @@
+package com.phat.domain.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * Denormalized interaction counters of an essay, keyed by the essay id and
+ * maintained with atomic {@code $inc} updates.
+ */
+@Document(collection = "essay_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EssayCounter {
+    @Id
+    String essayId;
+
+    @Field("comment_count")
+    @Builder.Default
+    Long commentCount = 0L;
+
+    @Field("reaction_count")
+    @Builder.Default
+    Long reactionCount = 0L;
+}
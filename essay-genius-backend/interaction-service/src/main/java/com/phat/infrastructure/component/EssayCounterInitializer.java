@@ -0,0 +1,238 @@
+package com.phat.infrastructure.component;
+
+import com.phat.domain.model.Comment;
+import com.phat.domain.model.EssayCounter;
+import com.phat.domain.model.Reaction;
+import com.phat.domain.model.TargetType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * One-off migration that seeds {@code essay_counters} from existing comments and reactions and recomputes
+ * {@code Comment.replyCount}/{@code reactionCount}, which drifted before deletions decremented them. Afterwards the
+ * counters are kept up to date incrementally by the interaction service.
+ * <p>
+ * It runs once per database, before the servers start taking traffic: the instance that takes the lock in the
+ * {@code migrations} collection runs it and marks it done, the others skip it. Pods of the previous version do not
+ * maintain the counters, so they must be drained before the first pod of this version starts (deploy this release
+ * with the {@code Recreate} strategy); whatever they write after the migration is never corrected.
+ * <p>
+ * Upgraded pods may {@code $inc} the counters while it runs. The aggregates only pick the documents that look off;
+ * each of those is recounted and written with a compare-and-set on the counters read before the recount, and
+ * recounted again when an {@code $inc} landed in between, so no increment is overwritten.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EssayCounterInitializer implements SmartInitializingSingleton {
+
+    static final String MIGRATION_ID = "essay-counters-v1";
+    static final String MIGRATIONS_COLLECTION = "migrations";
+    static final Duration LOCK_TIMEOUT = Duration.ofMinutes(10);
+    static final int MAX_ATTEMPTS = 5;
+
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String owner = ManagementFactory.getRuntimeMXBean().getName();
+        if (!lock(owner)) {
+            return;
+        }
+        try {
+            int essays = seedEssayCounters();
+            int comments = recomputeCommentCounters();
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(MIGRATION_ID)),
+                    new Update().set("status", "DONE").set("finished_at", new Date()).unset("locked_until"),
+                    MIGRATIONS_COLLECTION);
+            log.info("[{}]: Migration {} fixed {} essay counters and {} comment counters",
+                    MICROSERVICE_NAME, MIGRATION_ID, essays, comments);
+        } catch (RuntimeException e) {
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(MIGRATION_ID).and("owner").is(owner)),
+                    new Update().set("locked_until", new Date()), MIGRATIONS_COLLECTION);
+            log.error("[{}]: Migration {} failed, it is retried on the next start", MICROSERVICE_NAME, MIGRATION_ID, e);
+        }
+    }
+
+    /**
+     * Takes the migration unless it is done or another instance holds an unexpired lock on it.
+     */
+    private boolean lock(String owner) {
+        Date now = new Date();
+        Query query = new Query(Criteria.where("_id").is(MIGRATION_ID)
+                .and("status").ne("DONE")
+                .orOperator(Criteria.where("locked_until").exists(false), Criteria.where("locked_until").lt(now)));
+        Update update = new Update()
+                .set("status", "RUNNING")
+                .set("owner", owner)
+                .set("locked_until", Date.from(Instant.now().plus(LOCK_TIMEOUT)));
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, MIGRATIONS_COLLECTION) != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private int seedEssayCounters() {
+        Map<String, Long> comments = countGroupedBy(Comment.class, "essayId", Criteria.where("isDeleted").ne(true));
+        Map<String, Long> reactions = countGroupedBy(Reaction.class, "targetId",
+                Criteria.where("targetType").is(TargetType.ESSAY));
+        Map<String, EssayCounter> counters = new HashMap<>();
+        mongoTemplate.findAll(EssayCounter.class).forEach(counter -> counters.put(counter.getEssayId(), counter));
+        Set<String> essayIds = new HashSet<>(comments.keySet());
+        essayIds.addAll(reactions.keySet());
+        essayIds.addAll(counters.keySet());
+
+        int fixed = 0;
+        for (String essayId : essayIds) {
+            EssayCounter counter = counters.get(essayId);
+            if (counter != null
+                    && valueOf(counter.getCommentCount()) == comments.getOrDefault(essayId, 0L)
+                    && valueOf(counter.getReactionCount()) == reactions.getOrDefault(essayId, 0L)) {
+                continue;
+            }
+            if (reconcileEssayCounter(essayId)) {
+                fixed++;
+            }
+        }
+        return fixed;
+    }
+
+    /**
+     * Sets every comment's counters to what its live replies and its reactions add up to, writing only the
+     * comments whose stored counters differ.
+     */
+    private int recomputeCommentCounters() {
+        Map<String, Long> replies = countGroupedBy(Comment.class, "parentId",
+                Criteria.where("parentId").ne(null).and("isDeleted").ne(true));
+        Map<String, Long> reactions = countGroupedBy(Reaction.class, "targetId",
+                Criteria.where("targetType").is(TargetType.COMMENT));
+
+        Query query = new Query();
+        query.fields().include("id", "replyCount", "reactionCount");
+        int fixed = 0;
+        try (Stream<Comment> stream = mongoTemplate.stream(query, Comment.class)) {
+            Iterator<Comment> comments = stream.iterator();
+            while (comments.hasNext()) {
+                Comment comment = comments.next();
+                if (valueOf(comment.getReplyCount()) == replies.getOrDefault(comment.getId(), 0L)
+                        && valueOf(comment.getReactionCount()) == reactions.getOrDefault(comment.getId(), 0L)) {
+                    continue;
+                }
+                if (reconcileCommentCounters(comment.getId())) {
+                    fixed++;
+                }
+            }
+        }
+        return fixed;
+    }
+
+    /**
+     * Recounts the essay's live comments and its reactions and stores them, unless its counter changed since it was
+     * read, in which case it tries again. Returns whether a write was needed.
+     */
+    private boolean reconcileEssayCounter(String essayId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            EssayCounter current = mongoTemplate.findById(essayId, EssayCounter.class);
+            long comments = mongoTemplate.count(new Query(Criteria.where("essayId").is(essayId)
+                    .and("isDeleted").ne(true)), Comment.class);
+            long reactions = mongoTemplate.count(new Query(Criteria.where("targetId").is(essayId)
+                    .and("targetType").is(TargetType.ESSAY)), Reaction.class);
+            if (current == null) {
+                try {
+                    mongoTemplate.insert(EssayCounter.builder()
+                            .essayId(essayId)
+                            .commentCount(comments)
+                            .reactionCount(reactions)
+                            .build());
+                    return true;
+                } catch (DuplicateKeyException e) {
+                    continue;
+                }
+            }
+            if (valueOf(current.getCommentCount()) == comments && valueOf(current.getReactionCount()) == reactions) {
+                return false;
+            }
+            Query unchanged = new Query(Criteria.where("essayId").is(essayId)
+                    .and("commentCount").is(current.getCommentCount())
+                    .and("reactionCount").is(current.getReactionCount()));
+            Update update = new Update().set("commentCount", comments).set("reactionCount", reactions);
+            if (mongoTemplate.updateFirst(unchanged, update, EssayCounter.class).getMatchedCount() == 1) {
+                return true;
+            }
+        }
+        log.warn("[{}]: Essay {} kept changing, its counters were left as they are", MICROSERVICE_NAME, essayId);
+        return false;
+    }
+
+    /**
+     * Same as {@link #reconcileEssayCounter} for a comment's reply and reaction counters.
+     */
+    private boolean reconcileCommentCounters(String commentId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Comment current = mongoTemplate.findById(commentId, Comment.class);
+            if (current == null) {
+                return false;
+            }
+            int replies = (int) mongoTemplate.count(new Query(Criteria.where("parentId").is(commentId)
+                    .and("isDeleted").ne(true)), Comment.class);
+            int reactions = (int) mongoTemplate.count(new Query(Criteria.where("targetId").is(commentId)
+                    .and("targetType").is(TargetType.COMMENT)), Reaction.class);
+            if (valueOf(current.getReplyCount()) == replies && valueOf(current.getReactionCount()) == reactions) {
+                return false;
+            }
+            Query unchanged = new Query(Criteria.where("id").is(commentId)
+                    .and("replyCount").is(current.getReplyCount())
+                    .and("reactionCount").is(current.getReactionCount()));
+            Update update = new Update().set("replyCount", replies).set("reactionCount", reactions);
+            if (mongoTemplate.updateFirst(unchanged, update, Comment.class).getMatchedCount() == 1) {
+                return true;
+            }
+        }
+        log.warn("[{}]: Comment {} kept changing, its counters were left as they are", MICROSERVICE_NAME, commentId);
+        return false;
+    }
+
+    private static long valueOf(Number counter) {
+        return counter == null ? 0L : counter.longValue();
+    }
+
+    private Map<String, Long> countGroupedBy(Class<?> entityClass, String field, Criteria criteria) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.group(field).count().as("count"));
+        Map<String, Long> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, entityClass, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(doc.get("_id").toString(), ((Number) doc.get("count")).longValue()));
+        return result;
+    }
+}
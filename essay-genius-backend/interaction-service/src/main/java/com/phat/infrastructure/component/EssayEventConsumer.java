@@ -0,0 +1,38 @@
+package com.phat.infrastructure.component;
+
+import com.phat.app.service.impl.EssayExistenceFilter;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import static com.phat.common.Constants.KAFKA_TOPIC_ESSAY_CREATED;
+import static com.phat.common.Constants.KAFKA_TOPIC_ESSAY_DELETED;
+
+/**
+ * Keeps the essay existence filter in step with essay-service. Records are keyed by essay id.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(prefix = "essay.existence-filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EssayEventConsumer {
+
+    EssayExistenceFilter essayExistenceFilter;
+
+    @KafkaListener(topics = KAFKA_TOPIC_ESSAY_CREATED, containerFactory = "essayEventContainerFactory")
+    public void onEssayCreated(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        essayExistenceFilter.onEssayCreated(record.key());
+        acknowledgment.acknowledge();
+    }
+
+    @KafkaListener(topics = KAFKA_TOPIC_ESSAY_DELETED, containerFactory = "essayEventContainerFactory")
+    public void onEssayDeleted(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        essayExistenceFilter.onEssayDeleted(record.key());
+        acknowledgment.acknowledge();
+    }
+}
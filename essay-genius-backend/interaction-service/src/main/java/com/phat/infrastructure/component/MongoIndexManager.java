@@ -0,0 +1,99 @@
+package com.phat.infrastructure.component;
+
+import com.phat.api.model.request.ListCommentRequest;
+import com.phat.api.model.request.ListReactionRequest;
+import com.phat.common.components.MongoQueryVerifier;
+import com.phat.domain.model.Comment;
+import com.phat.domain.model.Reaction;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import static com.phat.app.helper.Constants.MICROSERVICE_NAME;
+
+/**
+ * Declares the indexes backing the comment and reaction queries and checks with {@code explain()}
+ * that the queries the listing endpoints build are served by an index.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MongoIndexManager {
+
+    MongoTemplate mongoTemplate;
+
+    MongoQueryVerifier queryVerifier;
+
+    @NonFinal
+    @Value("${mongo.indexes.verify-on-startup:true}")
+    boolean verifyOnStartup;
+
+    public MongoIndexManager(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryVerifier = new MongoQueryVerifier(mongoTemplate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        IndexOperations commentIndexes = mongoTemplate.indexOps(Comment.class);
+        // comment threads: essayId + parentId (null for top level), live comments only, newest first
+        commentIndexes.ensureIndex(new Index()
+                .on("essayId", Sort.Direction.ASC)
+                .on("parentId", Sort.Direction.ASC)
+                .on("is_deleted", Sort.Direction.ASC)
+                .on("created_at", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("essay_parent_deleted_created"));
+        commentIndexes.ensureIndex(new Index().on("parentId", Sort.Direction.ASC).named("parentId"));
+
+        IndexOperations reactionIndexes = mongoTemplate.indexOps(Reaction.class);
+        // findByTargetIdAndCreatedBy and the caller's reactions on a page
+        reactionIndexes.ensureIndex(new Index()
+                .on("targetId", Sort.Direction.ASC)
+                .on("created_by", Sort.Direction.ASC)
+                .named("target_created_by"));
+        // countByTargetIdAndReactionType; its targetId prefix also serves countByTargetId
+        reactionIndexes.ensureIndex(new Index()
+                .on("targetId", Sort.Direction.ASC)
+                .on("reactionType", Sort.Direction.ASC)
+                .named("target_reaction_type"));
+        reactionIndexes.ensureIndex(new Index()
+                .on("targetId", Sort.Direction.ASC)
+                .on("created_at", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("target_created"));
+
+        if (verifyOnStartup) {
+            verifyListQueries("top-level comments of an essay", ListCommentRequest.builder().essayId("").build());
+            verifyListQueries("replies of a comment", ListCommentRequest.builder().essayId("").parentId("").build());
+            queryVerifier.verify("reaction of a user on a target",
+                    new Query(Criteria.where("targetId").is("").and("createdBy").is("")), Reaction.class);
+            ListReactionRequest reactionsOfTarget = new ListReactionRequest();
+            reactionsOfTarget.setTargetId("");
+            queryVerifier.verify("reactions of a target",
+                    new Query(reactionsOfTarget.toCriteria()).with(reactionsOfTarget.toPageable()), Reaction.class);
+        }
+    }
+
+    /**
+     * Explains both queries {@code findAllComments} runs for the request: the keyset slice and the offset page.
+     */
+    private void verifyListQueries(String name, ListCommentRequest request) {
+        Criteria criteria = request.toCriteria();
+        request.setCursor("");
+        queryVerifier.verify(name + " (cursor)", request.toCursorQuery(criteria), Comment.class);
+        request.setCursor(null);
+        queryVerifier.verify(name + " (page)", new Query(criteria).with(request.toPageable()), Comment.class);
+    }
+}
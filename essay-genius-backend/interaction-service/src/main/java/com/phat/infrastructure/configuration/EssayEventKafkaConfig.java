@@ -0,0 +1,39 @@
+package com.phat.infrastructure.configuration;
+
+import com.phat.common.components.KafkaFactory;
+import com.phat.common.configs.KafkaProperty;
+import com.phat.common.configs.ServiceProperties;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+import java.util.Map;
+
+import static com.phat.common.Constants.INSTANCE_ID;
+
+@Configuration
+@ConditionalOnProperty(prefix = "essay.existence-filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EssayEventKafkaConfig {
+
+    /**
+     * Every instance holds its own existence filter, so each one consumes with its own group id.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> essayEventContainerFactory(
+            KafkaProperties kafkaProperties,
+            ServiceProperties serviceProperties,
+            @Value(INSTANCE_ID) String instanceId) {
+        KafkaFactory<String> kafkaFactory = KafkaFactory.<String>builder()
+                .kafkaProperty(new KafkaProperty(kafkaProperties))
+                .build();
+        String groupId = serviceProperties.getName() + "-essay-events-" + instanceId;
+        return kafkaFactory.createContainerFactory(
+                kafkaFactory.createConsumerFactory(groupId, StringDeserializer.class, Map.of()),
+                1,
+                serviceProperties.getName() + "-essay-events");
+    }
+}